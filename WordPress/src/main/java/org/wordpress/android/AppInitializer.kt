@@ -38,7 +38,9 @@ import com.google.android.gms.auth.api.Auth
 import com.google.android.gms.common.api.GoogleApiClient
 import com.google.firebase.iid.FirebaseInstanceId
 import com.wordpress.rest.RestClient
+import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.asExecutor
 import org.greenrobot.eventbus.EventBus
 import org.greenrobot.eventbus.Subscribe
 import org.greenrobot.eventbus.ThreadMode
@@ -54,6 +56,7 @@ import org.wordpress.android.fluxc.generated.ListActionBuilder
 import org.wordpress.android.fluxc.generated.PostActionBuilder
 import org.wordpress.android.fluxc.generated.SiteActionBuilder
 import org.wordpress.android.fluxc.generated.ThemeActionBuilder
+import org.wordpress.android.fluxc.model.SiteModel
 import org.wordpress.android.fluxc.network.UserAgent
 import org.wordpress.android.fluxc.network.rest.wpcom.site.PrivateAtomicCookie
 import org.wordpress.android.auth.WordPressCookieAuthenticator
@@ -67,6 +70,7 @@ import org.wordpress.android.fluxc.store.StatsStore
 import org.wordpress.android.fluxc.tools.FluxCImageLoader
 import org.wordpress.android.fluxc.utils.ErrorUtils.OnUnexpectedError
 import org.wordpress.android.modules.APPLICATION_SCOPE
+import org.wordpress.android.modules.BG_THREAD
 import org.wordpress.android.networking.ConnectionChangeReceiver
 import org.wordpress.android.networking.OAuthAuthenticator
 import org.wordpress.android.networking.RestClientUtils
@@ -105,6 +109,10 @@ import org.wordpress.android.util.ProfilingUtils
 import org.wordpress.android.util.QuickStartUtils
 import org.wordpress.android.util.RateLimitedTask
 import org.wordpress.android.util.SiteUtils
+import org.wordpress.android.util.StartupTask
+import org.wordpress.android.util.StartupTask.Mode.BACKGROUND
+import org.wordpress.android.util.StartupTask.Mode.DEFERRED
+import org.wordpress.android.util.StartupTaskRunner
 import org.wordpress.android.util.VolleyUtils
 import org.wordpress.android.util.analytics.AnalyticsUtils
 import org.wordpress.android.util.config.AppConfig
@@ -205,6 +213,10 @@ class AppInitializer @Inject constructor(
     @Named(APPLICATION_SCOPE)
     lateinit var appScope: CoroutineScope
 
+    @Inject
+    @Named(BG_THREAD)
+    lateinit var bgDispatcher: CoroutineDispatcher
+
     @Inject
     lateinit var selectedSiteRepository: SelectedSiteRepository
 
@@ -289,96 +301,113 @@ class AppInitializer @Inject constructor(
         wellSqlInitializer.init()
     }
 
+    @Suppress("LongMethod")
     fun init() {
-        crashLogging.initialize()
-        dispatcher.register(this)
-        appConfig.init(appScope)
-        // Upload any encrypted logs that were queued but not yet uploaded
-        encryptedLogging.start()
-
-        // Init static fields from dagger injected singletons, for legacy Actions and Utilities
-        WordPress.requestQueue = requestQueue
-        WordPress.imageLoader = imageLoader
-        sOAuthAuthenticator = oAuthAuthenticator
-
-        ProfilingUtils.start("App Startup")
-
-        enableLogRecording()
-        AppLog.i(T.UTILS, "AppInitializer.init")
-
-        WordPress.versionName = PackageUtils.getVersionName(application)
-        initWpDb()
-        context?.let { enableHttpResponseCache(it) }
-
-        AppReviewManager.init(application)
-
-        if (!initialized) {
-            // EventBus setup
-            EventBus.TAG = "WordPress-EVENT"
-            EventBus.builder()
-                .logNoSubscriberMessages(false)
-                .sendNoSubscriberEvent(false)
-                .throwSubscriberException(true)
-                .installDefaultEventBus()
-        }
-
-        RestClientUtils.setUserAgent(userAgent.apiUserAgent)
-
-        if (!initialized) {
-            zendeskHelper.setupZendesk(
-                application,
-                BuildConfig.ZENDESK_DOMAIN,
-                BuildConfig.ZENDESK_APP_ID,
-                BuildConfig.ZENDESK_OAUTH_CLIENT_ID
+        StartupTaskRunner(bgDispatcher.asExecutor()).run(
+            listOf(
+                StartupTask("crash-logging") {
+                    crashLogging.initialize()
+                    dispatcher.register(this)
+                },
+                StartupTask("app-config") { appConfig.init(appScope) },
+                StartupTask("static-fields") {
+                    // Init static fields from dagger injected singletons, for legacy Actions and Utilities
+                    WordPress.requestQueue = requestQueue
+                    WordPress.imageLoader = imageLoader
+                    sOAuthAuthenticator = oAuthAuthenticator
+
+                    ProfilingUtils.start("App Startup")
+
+                    enableLogRecording()
+                    AppLog.i(T.UTILS, "AppInitializer.init")
+
+                    WordPress.versionName = PackageUtils.getVersionName(application)
+                },
+                StartupTask("wp-db") { initWpDb() },
+                StartupTask("http-response-cache", BACKGROUND) { context?.let { enableHttpResponseCache(it) } },
+                StartupTask("event-bus-and-support") {
+                    AppReviewManager.init(application)
+
+                    if (!initialized) {
+                        // EventBus setup
+                        EventBus.TAG = "WordPress-EVENT"
+                        EventBus.builder()
+                            .logNoSubscriberMessages(false)
+                            .sendNoSubscriberEvent(false)
+                            .throwSubscriberException(true)
+                            .installDefaultEventBus()
+                    }
+
+                    RestClientUtils.setUserAgent(userAgent.apiUserAgent)
+
+                    if (!initialized) {
+                        zendeskHelper.setupZendesk(
+                            application,
+                            BuildConfig.ZENDESK_DOMAIN,
+                            BuildConfig.ZENDESK_APP_ID,
+                            BuildConfig.ZENDESK_OAUTH_CLIENT_ID
+                        )
+                    }
+                },
+                StartupTask("lifecycle-observers") {
+                    val memoryAndConfigChangeMonitor = MemoryAndConfigChangeMonitor()
+                    application.registerComponentCallbacks(memoryAndConfigChangeMonitor)
+
+                    // initialize our ApplicationLifecycleMonitor, which is the App's LifecycleObserver implementation
+                    applicationLifecycleMonitor = ApplicationLifecycleMonitor()
+                    ProcessLifecycleOwner.get().lifecycle.addObserver(this)
+
+                    // Make the UploadStarter observe the app process so it can auto-start uploads
+                    uploadStarter.activateAutoUploading(ProcessLifecycleOwner.get() as ProcessLifecycleOwner)
+                },
+                StartupTask("analytics") { initAnalytics(SystemClock.elapsedRealtime() - startDate) },
+                // Upload any encrypted logs that were queued but not yet uploaded
+                StartupTask("encrypted-logging", BACKGROUND, listOf("analytics")) { encryptedLogging.start() },
+                StartupTask("notification-settings-and-theme") {
+                    updateNotificationSettings()
+                    // Allows vector drawable from resources (in selectors for instance) on Android < 21 (can cause
+                    // issues with memory usage and the use of Configuration). More information:
+                    // http://bit.ly/2H1KTQo
+                    // Note: if removed, this will cause crashes on Android < 21
+                    AppCompatDelegate.setCompatVectorFromResourcesEnabled(true)
+                    AppThemeUtils.setAppTheme(application)
+                },
+                // verify media is sanitized
+                StartupTask("sanitize-media-upload-state", BACKGROUND, listOf("wp-db")) {
+                    selectedSite()?.let { UploadService.sanitizeMediaUploadStateForSite(mediaStore, dispatcher, it) }
+                },
+                // remove expired lists
+                StartupTask("remove-expired-lists", BACKGROUND, listOf("crash-logging")) {
+                    dispatcher.dispatch(ListActionBuilder.newRemoveExpiredListsAction(RemoveExpiredListsPayload()))
+                },
+                // setup the Credentials Client so we can clean it up on wpcom logout
+                StartupTask("credentials-client") { setupCredentialsClient() },
+                StartupTask("work-manager") {
+                    if (!initialized) {
+                        initWorkManager()
+                    }
+                },
+                // Enqueue our periodic upload work request. The UploadWorkRequest will be called even if the app is
+                // closed. It will upload local draft or published posts with local changes to the server.
+                StartupTask("periodic-upload-work", DEFERRED, listOf("work-manager")) {
+                    enqueuePeriodicUploadWorkRequestForAllSites()
+                },
+                StartupTask("system-notifications-state", DEFERRED, listOf("analytics")) {
+                    systemNotificationsTracker.checkSystemNotificationsState()
+                },
+                StartupTask("image-editor", DEFERRED) {
+                    ImageEditorInitializer.init(imageManager, imageEditorTracker, imageEditorFileUtils, appScope)
+                },
+                StartupTask("explat-refresh", DEFERRED, listOf("app-config")) { exPlat.forceRefresh() },
+                StartupTask("debug-tools") {
+                    initDebugCookieManager()
+
+                    if (!initialized && BuildConfig.DEBUG && Build.VERSION.SDK_INT >= VERSION_CODES.R) {
+                        initAppOpsManager()
+                    }
+                }
             )
-        }
-
-        val memoryAndConfigChangeMonitor = MemoryAndConfigChangeMonitor()
-        application.registerComponentCallbacks(memoryAndConfigChangeMonitor)
-
-        // initialize our ApplicationLifecycleMonitor, which is the App's LifecycleObserver implementation
-        applicationLifecycleMonitor = ApplicationLifecycleMonitor()
-        ProcessLifecycleOwner.get().lifecycle.addObserver(this)
-
-        // Make the UploadStarter observe the app process so it can auto-start uploads
-        uploadStarter.activateAutoUploading(ProcessLifecycleOwner.get() as ProcessLifecycleOwner)
-
-        initAnalytics(SystemClock.elapsedRealtime() - startDate)
-
-        updateNotificationSettings()
-        // Allows vector drawable from resources (in selectors for instance) on Android < 21 (can cause issues with
-        // memory usage and the use of Configuration). More information: http://bit.ly/2H1KTQo
-        // Note: if removed, this will cause crashes on Android < 21
-        AppCompatDelegate.setCompatVectorFromResourcesEnabled(true)
-        AppThemeUtils.setAppTheme(application)
-
-        // verify media is sanitized
-        sanitizeMediaUploadStateForSite()
-
-        // remove expired lists
-        dispatcher.dispatch(ListActionBuilder.newRemoveExpiredListsAction(RemoveExpiredListsPayload()))
-
-        // setup the Credentials Client so we can clean it up on wpcom logout
-        setupCredentialsClient()
-
-        if (!initialized) {
-            initWorkManager()
-        }
-
-        // Enqueue our periodic upload work request. The UploadWorkRequest will be called even if the app is closed.
-        // It will upload local draft or published posts with local changes to the server.
-        enqueuePeriodicUploadWorkRequestForAllSites()
-
-        systemNotificationsTracker.checkSystemNotificationsState()
-        ImageEditorInitializer.init(imageManager, imageEditorTracker, imageEditorFileUtils, appScope)
-
-        exPlat.forceRefresh()
-
-        initDebugCookieManager()
-
-        if (!initialized && BuildConfig.DEBUG && Build.VERSION.SDK_INT >= VERSION_CODES.R) {
-            initAppOpsManager()
-        }
+        )
 
         initialized = true
     }
@@ -439,10 +468,13 @@ class AppInitializer @Inject constructor(
         }
     }
 
-    private fun sanitizeMediaUploadStateForSite() {
+    private fun selectedSite(): SiteModel? {
         val selectedSiteLocalId: Int = selectedSiteRepository.getSelectedSiteLocalId(true)
-        val site = siteStore.getSiteByLocalId(selectedSiteLocalId)
-        site?.let {
+        return siteStore.getSiteByLocalId(selectedSiteLocalId)
+    }
+
+    private fun sanitizeMediaUploadStateForSite() {
+        selectedSite()?.let { site ->
             Thread {
                 UploadService.sanitizeMediaUploadStateForSite(mediaStore, dispatcher, site)
             }.start()
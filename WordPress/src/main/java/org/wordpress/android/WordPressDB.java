@@ -9,6 +9,7 @@ import org.wordpress.android.datasets.PeopleTable;
 import org.wordpress.android.datasets.PublicizeTable;
 import org.wordpress.android.datasets.SiteSettingsTable;
 import org.wordpress.android.datasets.UserSuggestionTable;
+import org.wordpress.android.fluxc.persistence.DatabaseConnectionConfig;
 import org.wordpress.android.models.SiteSettingsModel;
 import org.wordpress.android.ui.prefs.AppPrefs;
 import org.wordpress.android.util.AppLog;
@@ -43,6 +44,7 @@ public class WordPressDB {
     @SuppressWarnings({"FallThrough"})
     public WordPressDB(Context ctx) {
         mDb = ctx.openOrCreateDatabase(DATABASE_NAME, 0, null);
+        DatabaseConnectionConfig.configure(mDb);
 
         // Create tables if they don't exist
         mDb.execSQL(CREATE_TABLE_QUICKPRESS_SHORTCUTS);
@@ -215,6 +217,7 @@ public class WordPressDB {
      * used during development to copy database to SD card so we can access it via DDMS
      */
     protected void copyDatabase() {
+        DatabaseConnectionConfig.checkpoint(mDb);
         String copyFrom = mDb.getPath();
         String copyTo =
                 WordPress.getContext().getExternalFilesDir(null).getAbsolutePath() + "/" + DATABASE_NAME + ".db";
@@ -6,6 +6,8 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteStatement;
 import android.text.TextUtils;
 
+import androidx.annotation.NonNull;
+
 import org.wordpress.android.models.ReaderBlog;
 import org.wordpress.android.models.ReaderBlogList;
 import org.wordpress.android.ui.reader.ReaderConstants;
@@ -14,8 +16,13 @@ import org.wordpress.android.util.DateTimeUtils;
 import org.wordpress.android.util.SqlUtils;
 import org.wordpress.android.util.UrlUtils;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * tbl_blog_info contains information about blogs viewed in the reader, and blogs the
@@ -87,6 +94,45 @@ public class ReaderBlogTable {
         }
     }
 
+    /*
+     * same as getBlogInfo() / getFeedInfo() for several blogs or feeds at once, keyed by blog_id or feed_id
+     */
+    @NonNull
+    public static Map<Long, ReaderBlog> getBlogInfos(@NonNull Collection<Long> blogIds) {
+        return getBlogInfosWithIds("blog_id", blogIds);
+    }
+
+    @NonNull
+    public static Map<Long, ReaderBlog> getFeedInfos(@NonNull Collection<Long> feedIds) {
+        return getBlogInfosWithIds("feed_id", feedIds);
+    }
+
+    @NonNull
+    private static Map<Long, ReaderBlog> getBlogInfosWithIds(@NonNull String idColumn, @NonNull Collection<Long> ids) {
+        Map<Long, ReaderBlog> blogs = new HashMap<>();
+        Set<Long> validIds = new HashSet<>(ids);
+        validIds.remove(0L);
+        if (validIds.isEmpty()) {
+            return blogs;
+        }
+        String sql = "SELECT * FROM tbl_blog_info WHERE " + idColumn + " IN (" + TextUtils.join(",", validIds) + ")";
+        Cursor cursor = ReaderDatabase.getReadableDb().rawQuery(sql, null);
+        try {
+            if (cursor.moveToFirst()) {
+                int idIndex = cursor.getColumnIndexOrThrow(idColumn);
+                do {
+                    long id = cursor.getLong(idIndex);
+                    if (!blogs.containsKey(id)) {
+                        blogs.put(id, getBlogInfoFromCursor(cursor));
+                    }
+                } while (cursor.moveToNext());
+            }
+        } finally {
+            SqlUtils.closeCursor(cursor);
+        }
+        return blogs;
+    }
+
     public static long getFeedIdFromUrl(String url) {
         if (TextUtils.isEmpty(url)) {
             return 0;
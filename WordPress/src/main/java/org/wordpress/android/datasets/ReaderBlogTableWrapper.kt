@@ -21,6 +21,20 @@ class ReaderBlogTableWrapper
         }
     }
 
+    /**
+     * Same as [getReaderBlog] for each (blogId, feedId) pair, with one query for the blogs and one for the feeds.
+     * Pairs without a stored blog are missing from the result.
+     */
+    fun getReaderBlogs(ids: List<Pair<Long, Long>>): Map<Pair<Long, Long>, ReaderBlog> {
+        val (feeds, blogs) = ids.partition { (blogId, feedId) -> readerUtilsWrapper.isExternalFeed(blogId, feedId) }
+        val feedInfos = if (feeds.isEmpty()) emptyMap() else ReaderBlogTable.getFeedInfos(feeds.map { it.second })
+        val blogInfos = if (blogs.isEmpty()) emptyMap() else ReaderBlogTable.getBlogInfos(blogs.map { it.first })
+        val result = mutableMapOf<Pair<Long, Long>, ReaderBlog>()
+        feeds.forEach { id -> feedInfos[id.second]?.let { result[id] = it } }
+        blogs.forEach { id -> blogInfos[id.first]?.let { result[id] = it } }
+        return result
+    }
+
     fun isSiteFollowed(blogId: Long, feedId: Long): Boolean {
         return if (readerUtilsWrapper.isExternalFeed(blogId, feedId)) {
             ReaderBlogTable.isFollowedFeed(feedId)
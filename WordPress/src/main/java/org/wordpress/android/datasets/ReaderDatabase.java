@@ -6,6 +6,7 @@ import android.database.sqlite.SQLiteOpenHelper;
 
 import org.greenrobot.eventbus.EventBus;
 import org.wordpress.android.WordPress;
+import org.wordpress.android.fluxc.persistence.DatabaseConnectionConfig;
 import org.wordpress.android.models.ReaderPostList;
 import org.wordpress.android.models.ReaderTag;
 import org.wordpress.android.models.ReaderTagList;
@@ -148,6 +149,13 @@ public class ReaderDatabase extends SQLiteOpenHelper {
         return getDatabase().getWritableDatabase();
     }
 
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        super.onConfigure(db);
+        // syncs write a lot to this database, WAL keeps them from blocking the reader screens
+        DatabaseConnectionConfig.configure(db);
+    }
+
     @Override
     public void onOpen(SQLiteDatabase db) {
         super.onOpen(db);
@@ -384,6 +392,7 @@ public class ReaderDatabase extends SQLiteOpenHelper {
      * used during development to copy database to external storage so we can access it via DDMS
      */
     private void copyDatabase(SQLiteDatabase db) {
+        DatabaseConnectionConfig.checkpoint(db);
         String copyFrom = db.getPath();
         String copyTo = WordPress.getContext().getExternalFilesDir(null).getAbsolutePath() + "/" + DB_NAME;
 
@@ -17,8 +17,17 @@ object ReaderDiscoverCardsTable {
         )
     }
 
+    /**
+     * Incremented whenever the table is dropped. Page ids start over from 1 once the table is created again, so a
+     * page id only identifies the same json within a generation.
+     */
+    @Volatile
+    var generation = 0
+        private set
+
     fun dropTables(db: SQLiteDatabase) {
         db.execSQL("DROP TABLE IF EXISTS tbl_discover_cards")
+        generation++
     }
 
     fun clear() {
@@ -41,20 +50,44 @@ object ReaderDiscoverCardsTable {
         getWritableDb().insert(DISCOVER_CARDS_TABLE, null, values)
     }
 
-    fun loadDiscoverCardsJsons(): List<String> {
+    /**
+     * Returns the ids of the stored pages, in the order they were added. Pages are only ever appended or cleared,
+     * so a page's json never changes once it has an id, until the table is dropped (see [generation]).
+     */
+    fun loadDiscoverCardsPageIds(): List<Long> {
         val c = getReadableDb()
-            .rawQuery("SELECT * FROM $DISCOVER_CARDS_TABLE ORDER BY _id ASC", null)
-        val cardJsonList = arrayListOf<String>()
+            .rawQuery("SELECT _id FROM $DISCOVER_CARDS_TABLE ORDER BY _id ASC", null)
+        val pageIds = arrayListOf<Long>()
+        try {
+            if (c.moveToFirst()) {
+                do {
+                    pageIds.add(c.getLong(0))
+                } while (c.moveToNext())
+            }
+        } finally {
+            SqlUtils.closeCursor(c)
+        }
+        return pageIds
+    }
+
+    /**
+     * Returns the id and json of the pages added after [afterPageId], in the order they were added.
+     */
+    fun loadDiscoverCardsPages(afterPageId: Long): List<Pair<Long, String>> {
+        val c = getReadableDb().rawQuery(
+            "SELECT _id, $CARDS_JSON_COLUMN FROM $DISCOVER_CARDS_TABLE WHERE _id > ? ORDER BY _id ASC",
+            arrayOf(afterPageId.toString())
+        )
+        val pages = arrayListOf<Pair<Long, String>>()
         try {
             if (c.moveToFirst()) {
                 do {
-                    val cardJson = c.getString(c.getColumnIndexOrThrow(CARDS_JSON_COLUMN))
-                    cardJsonList.add(cardJson)
+                    pages.add(Pair(c.getLong(0), c.getString(1)))
                 } while (c.moveToNext())
             }
         } finally {
             SqlUtils.closeCursor(c)
         }
-        return cardJsonList
+        return pages
     }
 }
@@ -5,5 +5,9 @@ import javax.inject.Inject
 
 @Reusable
 class ReaderDiscoverCardsTableWrapper @Inject constructor() {
-    fun loadDiscoverCardsJsons() = ReaderDiscoverCardsTable.loadDiscoverCardsJsons()
+    fun getGeneration() = ReaderDiscoverCardsTable.generation
+
+    fun loadDiscoverCardsPageIds() = ReaderDiscoverCardsTable.loadDiscoverCardsPageIds()
+
+    fun loadDiscoverCardsPages(afterPageId: Long) = ReaderDiscoverCardsTable.loadDiscoverCardsPages(afterPageId)
 }
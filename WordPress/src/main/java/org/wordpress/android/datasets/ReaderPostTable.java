@@ -28,10 +28,13 @@ import org.wordpress.android.ui.reader.utils.ReaderUtils;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.SqlUtils;
 
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * tbl_posts contains all reader posts - the primary key is pseudo_id + tag_name + tag_type,
@@ -356,6 +359,51 @@ public class ReaderPostTable {
                 excludeTextColumn);
     }
 
+    /*
+     * returns the posts matching the passed blogId/postId pairs with a single query - same as calling
+     * getBlogPost() for each pair, but without a round trip per post. posts that aren't in the table
+     * are simply missing from the result, which is in no particular order
+     */
+    @NonNull
+    public static ReaderPostList getBlogPosts(@NonNull List<ReaderBlogIdPostId> ids, boolean excludeTextColumn) {
+        ReaderPostList posts = new ReaderPostList();
+        if (ids.isEmpty()) {
+            return posts;
+        }
+
+        Set<String> wantedKeys = new HashSet<>();
+        Set<Long> postIds = new HashSet<>();
+        for (ReaderBlogIdPostId id : ids) {
+            wantedKeys.add(getBlogPostKey(id.getBlogId(), id.getPostId()));
+            postIds.add(id.getPostId());
+        }
+
+        // post_id is indexed, the blog_id of each match is then checked here
+        String columns = (excludeTextColumn ? COLUMN_NAMES_NO_TEXT : "*");
+        String sql = "SELECT " + columns + " FROM tbl_posts WHERE post_id IN (" + TextUtils.join(",", postIds) + ")";
+        Cursor cursor = ReaderDatabase.getReadableDb().rawQuery(sql, null);
+        try {
+            if (cursor.moveToFirst()) {
+                int blogIdIndex = cursor.getColumnIndexOrThrow("blog_id");
+                int postIdIndex = cursor.getColumnIndexOrThrow("post_id");
+                do {
+                    // a post can be stored once per tag, only the first row of each is returned
+                    String key = getBlogPostKey(cursor.getLong(blogIdIndex), cursor.getLong(postIdIndex));
+                    if (wantedKeys.remove(key)) {
+                        posts.add(getPostFromCursor(cursor));
+                    }
+                } while (cursor.moveToNext());
+            }
+        } finally {
+            SqlUtils.closeCursor(cursor);
+        }
+        return posts;
+    }
+
+    private static String getBlogPostKey(long blogId, long postId) {
+        return blogId + ":" + postId;
+    }
+
     @Nullable
     public static ReaderPost getBlogPost(String blogSlug, String postSlug, boolean excludeTextColumn) {
         return getPost("blog_url LIKE ? AND url LIKE ?", new String[]{"%//" + blogSlug, "%/" + postSlug + "/"},
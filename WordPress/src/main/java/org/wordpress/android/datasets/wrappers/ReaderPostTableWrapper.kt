@@ -14,6 +14,9 @@ class ReaderPostTableWrapper @Inject constructor() {
     fun getBlogPost(blogId: Long, postId: Long, excludeTextColumn: Boolean): ReaderPost? =
         ReaderPostTable.getBlogPost(blogId, postId, excludeTextColumn)
 
+    fun getBlogPosts(ids: List<ReaderBlogIdPostId>, excludeTextColumn: Boolean): ReaderPostList =
+        ReaderPostTable.getBlogPosts(ids, excludeTextColumn)
+
     fun getFeedPost(blogId: Long, postId: Long, excludeTextColumn: Boolean): ReaderPost? = ReaderPostTable
         .getFeedPost(blogId, postId, excludeTextColumn)
 
@@ -1,5 +1,7 @@
 package org.wordpress.android.models;
 
+import androidx.collection.LongSparseArray;
+
 import java.util.ArrayList;
 
 public class ReaderCommentList extends ArrayList<ReaderComment> {
@@ -20,8 +22,17 @@ public class ReaderCommentList extends ArrayList<ReaderComment> {
             return false;
         }
 
+        // look comments up by id so comparing long threads stays linear
+        LongSparseArray<ReaderComment> commentsById = new LongSparseArray<>(this.size());
+        for (ReaderComment comment : this) {
+            if (commentsById.get(comment.commentId) == null) {
+                commentsById.put(comment.commentId, comment);
+            }
+        }
+
         for (ReaderComment comment : comments) {
-            if (indexOf(comment) == -1) {
+            ReaderComment existing = commentsById.get(comment.commentId);
+            if (existing == null || (!existing.equals(comment) && indexOf(comment) == -1)) {
                 return false;
             }
         }
@@ -11,6 +11,8 @@ import android.os.Bundle;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.collection.ArrayMap;
 import androidx.core.app.NotificationCompat;
 import androidx.core.app.NotificationManagerCompat;
@@ -26,6 +28,7 @@ import org.wordpress.android.analytics.AnalyticsTracker.Stat;
 import org.wordpress.android.datasets.NotificationsTable;
 import org.wordpress.android.fluxc.model.CommentStatus;
 import org.wordpress.android.models.Note;
+import org.wordpress.android.push.NotificationIconCache.OnIconLoadedListener;
 import org.wordpress.android.ui.main.WPMainActivity;
 import org.wordpress.android.ui.notifications.NotificationEvents;
 import org.wordpress.android.ui.notifications.NotificationManagerWrapper;
@@ -38,7 +41,6 @@ import org.wordpress.android.ui.prefs.AppPrefs;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.AppLog.T;
 import org.wordpress.android.util.DateTimeUtils;
-import org.wordpress.android.util.ImageUtils;
 import org.wordpress.android.util.PhotonUtils;
 import org.wordpress.android.util.StringUtils;
 
@@ -51,6 +53,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -73,6 +76,7 @@ public class GCMMessageHandler {
     private static final int AUTH_PUSH_REQUEST_CODE_OPEN_DIALOG = 2;
 
     private static final int MAX_INBOX_ITEMS = 5;
+    private static final long LARGE_ICON_DEADLINE_MILLIS = 3000;
 
     private static final String PUSH_ARG_TYPE = "type";
     private static final String PUSH_ARG_USER = "user";
@@ -103,10 +107,11 @@ public class GCMMessageHandler {
 
     @Inject GCMMessageHandler(SystemNotificationsTracker systemNotificationsTracker,
                               NotificationsUtilsWrapper notificationsUtilsWrapper,
-                              NotificationManagerWrapper notificationManagerWrapper) {
+                              NotificationManagerWrapper notificationManagerWrapper,
+                              NotificationIconCache notificationIconCache) {
         mActiveNotificationsMap = new ArrayMap<>();
         mNotificationHelper = new NotificationHelper(this, systemNotificationsTracker, notificationsUtilsWrapper,
-                notificationManagerWrapper);
+                notificationManagerWrapper, notificationIconCache);
     }
 
     synchronized void rebuildAndUpdateNotificationsOnSystemBarForThisNote(Context context,
@@ -124,6 +129,10 @@ public class GCMMessageHandler {
         }
     }
 
+    synchronized boolean isActiveNotification(int pushId, Bundle noteBundle) {
+        return mActiveNotificationsMap.get(pushId) == noteBundle;
+    }
+
     private synchronized Bundle getCurrentNoteBundleForNoteId(String noteId) {
         if (mActiveNotificationsMap.size() > 0) {
             // get the corresponding bundle for this noteId
@@ -277,15 +286,18 @@ public class GCMMessageHandler {
 
         private NotificationsUtilsWrapper mNotificationsUtilsWrapper;
         private NotificationManagerWrapper mNotificationManagerWrapper;
+        private NotificationIconCache mNotificationIconCache;
 
         NotificationHelper(GCMMessageHandler gCMMessageHandler,
                            SystemNotificationsTracker systemNotificationsTracker,
                            NotificationsUtilsWrapper notificationsUtilsWrapper,
-                           NotificationManagerWrapper notificationManagerWrapper) {
+                           NotificationManagerWrapper notificationManagerWrapper,
+                           NotificationIconCache notificationIconCache) {
             mGCMMessageHandler = gCMMessageHandler;
             mSystemNotificationsTracker = systemNotificationsTracker;
             mNotificationsUtilsWrapper = notificationsUtilsWrapper;
             mNotificationManagerWrapper = notificationManagerWrapper;
+            mNotificationIconCache = notificationIconCache;
         }
 
         void handleDefaultPush(Context context, @NonNull Bundle data, long wpcomUserId) {
@@ -408,8 +420,11 @@ public class GCMMessageHandler {
 
             // Build the new notification, add group to support wearable stacking
             NotificationCompat.Builder builder = getNotificationBuilder(context, title, message);
-            Bitmap largeIconBitmap =
-                    getLargeIconBitmap(context, data.getString("icon"), shouldCircularizeNoteIcon(noteType));
+            AtomicBoolean isShown = new AtomicBoolean(false);
+            Bitmap largeIconBitmap = getLargeIconBitmap(context, data.getString("icon"),
+                    shouldCircularizeNoteIcon(noteType),
+                    icon -> onLateLargeIcon(context, icon, builder, isShown, data, noteType, wpcomNoteID, pushId,
+                            title, message));
             if (largeIconBitmap != null) {
                 builder.setLargeIcon(largeIconBitmap);
             }
@@ -417,11 +432,34 @@ public class GCMMessageHandler {
             // Always do this, since a note can be updated on the server after a PN is sent
             NotificationsActions.downloadNoteAndUpdateDB(
                     wpcomNoteID,
-                    success -> showNotificationForNoteData(context, data, builder),
-                    error -> showNotificationForNoteData(context, data, builder)
+                    success -> showNotificationForNoteData(context, data, builder, isShown),
+                    error -> showNotificationForNoteData(context, data, builder, isShown)
             );
         }
 
+        /**
+         * Called when the large icon arrives after the notification stopped waiting for it. Sets it on the builder
+         * if the notification isn't shown yet, otherwise updates the shown notification without tracking it again.
+         */
+        @VisibleForTesting
+        void onLateLargeIcon(Context context, @NonNull Bitmap icon, @NonNull NotificationCompat.Builder builder,
+                             @NonNull AtomicBoolean isShown, Bundle data, String noteType, String wpcomNoteID,
+                             int pushId, String title, String message) {
+            synchronized (builder) {
+                if (!isShown.get()) {
+                    builder.setLargeIcon(icon);
+                } else if (mGCMMessageHandler.isActiveNotification(pushId, data)) {
+                    // The notification went out without the icon. Post it again from a fresh builder, the shown one
+                    // already has its actions and may have become the group summary.
+                    NotificationCompat.Builder iconBuilder =
+                            getNotificationBuilder(context, title, message).setLargeIcon(icon);
+                    showSingleNotificationForBuilder(context, iconBuilder, noteType, wpcomNoteID, pushId, false,
+                            false);
+                    showGroupNotificationForBuilder(context, iconBuilder, wpcomNoteID, message, false);
+                }
+            }
+        }
+
         @NonNull
         protected String getNotificationTitle(@NonNull Bundle data,
                                               @NonNull String noteType,
@@ -461,6 +499,14 @@ public class GCMMessageHandler {
             return message;
         }
 
+        private void showNotificationForNoteData(Context context, Bundle noteData, NotificationCompat.Builder builder,
+                                                 AtomicBoolean isShown) {
+            synchronized (builder) {
+                showNotificationForNoteData(context, noteData, builder);
+                isShown.set(true);
+            }
+        }
+
         private void showNotificationForNoteData(Context context, Bundle noteData, NotificationCompat.Builder builder) {
             String noteType = StringUtils.notNullStr(noteData.getString(PUSH_ARG_TYPE));
             String wpcomNoteID = noteData.getString(PUSH_ARG_NOTE_ID, "");
@@ -496,7 +542,7 @@ public class GCMMessageHandler {
         private void showSimpleNotification(Context context, String title, String message, Intent resultIntent,
                                             int pushId, NotificationType notificationType) {
             NotificationCompat.Builder builder = getNotificationBuilder(context, title, message);
-            showNotificationForBuilder(builder, context, resultIntent, pushId, true, notificationType);
+            showNotificationForBuilder(builder, context, resultIntent, pushId, true, notificationType, true);
         }
 
         private void addActionsForCommentNotification(Context context, NotificationCompat.Builder builder,
@@ -629,7 +675,14 @@ public class GCMMessageHandler {
             return new Intent(context, NotificationsProcessingService.class);
         }
 
-        private Bitmap getLargeIconBitmap(Context context, String iconUrl, boolean shouldCircularizeIcon) {
+        /**
+         * Returns the large icon if it's cached or downloaded within {@link #LARGE_ICON_DEADLINE_MILLIS}, so a slow
+         * avatar doesn't hold the notification back. Otherwise returns null and calls {@code onLateIcon} once the
+         * icon arrives.
+         */
+        @Nullable
+        private Bitmap getLargeIconBitmap(Context context, String iconUrl, boolean shouldCircularizeIcon,
+                                          @Nullable OnIconLoadedListener onLateIcon) {
             Bitmap largeIconBitmap = null;
             if (iconUrl != null) {
                 try {
@@ -637,10 +690,8 @@ public class GCMMessageHandler {
                     int largeIconSize = context.getResources().getDimensionPixelSize(
                             android.R.dimen.notification_large_icon_height);
                     String resizedUrl = PhotonUtils.getPhotonImageUrl(iconUrl, largeIconSize, largeIconSize);
-                    largeIconBitmap = ImageUtils.downloadBitmap(resizedUrl);
-                    if (largeIconBitmap != null && shouldCircularizeIcon) {
-                        largeIconBitmap = ImageUtils.getCircularBitmap(largeIconBitmap);
-                    }
+                    largeIconBitmap = mNotificationIconCache.getIcon(context, resizedUrl, largeIconSize,
+                            shouldCircularizeIcon, LARGE_ICON_DEADLINE_MILLIS, onLateIcon);
                 } catch (UnsupportedEncodingException e) {
                     AppLog.e(T.NOTIFS, e);
                 }
@@ -648,7 +699,8 @@ public class GCMMessageHandler {
             return largeIconBitmap;
         }
 
-        private NotificationCompat.Builder getNotificationBuilder(Context context, String title, String message) {
+        @VisibleForTesting
+        NotificationCompat.Builder getNotificationBuilder(Context context, String title, String message) {
             // Build the new notification, add group to support wearable stacking
             return new NotificationCompat.Builder(context,
                     context.getString(R.string.notification_channel_normal_id))
@@ -665,6 +717,11 @@ public class GCMMessageHandler {
 
         private void showGroupNotificationForBuilder(Context context, NotificationCompat.Builder builder,
                                                      String wpcomNoteID, String message) {
+            showGroupNotificationForBuilder(context, builder, wpcomNoteID, message, true);
+        }
+
+        private void showGroupNotificationForBuilder(Context context, NotificationCompat.Builder builder,
+                                                     String wpcomNoteID, String message, boolean trackShown) {
             if (builder == null || context == null) {
                 return;
             }
@@ -718,19 +775,25 @@ public class GCMMessageHandler {
                         .setStyle(inboxStyle);
 
                 showWPComNotificationForBuilder(groupBuilder, context, wpcomNoteID, GROUP_NOTIFICATION_ID, false,
-                        NotificationType.GROUP_NOTIFICATION);
+                        NotificationType.GROUP_NOTIFICATION, trackShown);
             } else {
                 // Set the individual notification we've already built as the group summary
                 builder.setGroupSummary(true)
                        .setGroupAlertBehavior(NotificationCompat.GROUP_ALERT_CHILDREN);
                 showWPComNotificationForBuilder(builder, context, wpcomNoteID, GROUP_NOTIFICATION_ID, false,
-                        NotificationType.GROUP_NOTIFICATION);
+                        NotificationType.GROUP_NOTIFICATION, trackShown);
             }
         }
 
         private void showSingleNotificationForBuilder(Context context, NotificationCompat.Builder builder,
                                                       String noteType, String wpcomNoteID, int pushId,
                                                       boolean notifyUser) {
+            showSingleNotificationForBuilder(context, builder, noteType, wpcomNoteID, pushId, notifyUser, true);
+        }
+
+        private void showSingleNotificationForBuilder(Context context, NotificationCompat.Builder builder,
+                                                      String noteType, String wpcomNoteID, int pushId,
+                                                      boolean notifyUser, boolean trackShown) {
             if (builder == null || context == null) {
                 return;
             }
@@ -739,7 +802,8 @@ public class GCMMessageHandler {
                 addActionsForCommentNotification(context, builder, wpcomNoteID);
             }
 
-            showWPComNotificationForBuilder(builder, context, wpcomNoteID, pushId, notifyUser, fromNoteType(noteType));
+            showWPComNotificationForBuilder(builder, context, wpcomNoteID, pushId, notifyUser, fromNoteType(noteType),
+                    trackShown);
         }
 
         private NotificationType fromNoteType(String noteType) {
@@ -771,7 +835,7 @@ public class GCMMessageHandler {
 
         private void showWPComNotificationForBuilder(NotificationCompat.Builder builder, Context context,
                                                      String wpcomNoteID, int pushId, boolean notifyUser,
-                                                     NotificationType notificationType) {
+                                                     NotificationType notificationType, boolean trackShown) {
             Intent resultIntent = new Intent(context, WPMainActivity.class);
             resultIntent.putExtra(WPMainActivity.ARG_OPENED_FROM_PUSH, true);
             resultIntent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TOP | Intent.FLAG_ACTIVITY_NEW_TASK
@@ -781,13 +845,14 @@ public class GCMMessageHandler {
             resultIntent.putExtra(NotificationsListFragment.NOTE_ID_EXTRA, wpcomNoteID);
             resultIntent.putExtra(IS_TAPPED_ON_NOTIFICATION, true);
 
-            showNotificationForBuilder(builder, context, resultIntent, pushId, notifyUser, notificationType);
+            showNotificationForBuilder(builder, context, resultIntent, pushId, notifyUser, notificationType,
+                    trackShown);
         }
 
-        // Displays a notification to the user
+        // Displays a notification to the user, trackShown is false when an already shown notification is updated
         private void showNotificationForBuilder(NotificationCompat.Builder builder, Context context,
                                                 Intent resultIntent, int pushId, boolean notifyUser,
-                                                NotificationType notificationType) {
+                                                NotificationType notificationType, boolean trackShown) {
             if (builder == null || context == null || resultIntent == null) {
                 return;
             }
@@ -846,7 +911,9 @@ public class GCMMessageHandler {
                 );
                 builder.setContentIntent(pendingIntent);
                 mNotificationManagerWrapper.notify(pushId, builder.build());
-                mSystemNotificationsTracker.trackShownNotification(notificationType);
+                if (trackShown) {
+                    mSystemNotificationsTracker.trackShownNotification(notificationType);
+                }
             }
         }
 
@@ -895,7 +962,7 @@ public class GCMMessageHandler {
                     }
                     largeIconBitmap = getLargeIconBitmap(context, remainingNote.getString("icon"),
                             shouldCircularizeNoteIcon(
-                                    remainingNote.getString(PUSH_ARG_TYPE)));
+                                    remainingNote.getString(PUSH_ARG_TYPE)), null);
 
                     builder = getNotificationBuilder(context, title, message);
 
@@ -923,7 +990,7 @@ public class GCMMessageHandler {
 
             if (largeIconBitmap == null) {
                 largeIconBitmap = getLargeIconBitmap(context, data.getString("icon"),
-                        shouldCircularizeNoteIcon(PUSH_TYPE_BADGE_RESET));
+                        shouldCircularizeNoteIcon(PUSH_TYPE_BADGE_RESET), null);
             }
 
             if (wpcomNoteID == null) {
@@ -0,0 +1,179 @@
+package org.wordpress.android.push
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.util.LruCache
+import org.wordpress.android.util.AppLog
+import org.wordpress.android.util.AppLog.T
+import org.wordpress.android.util.ImageUtils
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.FutureTask
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Keeps the large icons (mostly avatars) shown in push notifications, so rebuilding the notification group or
+ * receiving a burst of notes from the same people doesn't download and circularize the same icon over and over.
+ *
+ * Icons are keyed by url, size and shape and kept in a small memory cache backed by a bounded folder in the cache
+ * dir. Concurrent requests for the same icon share one download. Callers wait at most the given deadline; if the
+ * icon isn't there by then they get null, post the notification without it and are called back once it arrives.
+ */
+@Singleton
+class NotificationIconCache internal constructor(
+    private val iconDownloader: IconDownloader,
+    private val executor: Executor
+) {
+    @Inject constructor() : this(
+        IconDownloader { url, circular ->
+            ImageUtils.downloadBitmap(url)?.let { if (circular) ImageUtils.getCircularBitmap(it) else it }
+        },
+        Executors.newFixedThreadPool(DOWNLOAD_THREADS)
+    )
+
+    fun interface OnIconLoadedListener {
+        fun onIconLoaded(icon: Bitmap)
+    }
+
+    internal fun interface IconDownloader {
+        fun download(url: String, circular: Boolean): Bitmap?
+    }
+
+    private val memoryCache = object : LruCache<String, Bitmap>(MEMORY_CACHE_BYTES) {
+        override fun sizeOf(key: String, value: Bitmap) = value.byteCount
+    }
+    private val inFlight = ConcurrentHashMap<String, IconTask>()
+
+    /**
+     * Returns the icon if it's cached or arrives within [deadlineMillis], null otherwise. In the latter case
+     * [onLateIcon] is called from a background thread when the download completes.
+     */
+    fun getIcon(
+        context: Context,
+        url: String,
+        sizePx: Int,
+        circular: Boolean,
+        deadlineMillis: Long,
+        onLateIcon: OnIconLoadedListener?
+    ): Bitmap? {
+        val key = "$url|$sizePx|${if (circular) "circle" else "square"}"
+        memoryCache.get(key)?.let { return it }
+
+        val task = IconTask(context.applicationContext, key, url, circular)
+        val running = inFlight.putIfAbsent(key, task)
+        if (running == null) {
+            executor.execute(task)
+        }
+        return (running ?: task).await(deadlineMillis, onLateIcon)
+    }
+
+    private fun load(context: Context, key: String, url: String, circular: Boolean): Bitmap? {
+        val file = File(File(context.cacheDir, DISK_CACHE_DIR), UUID.nameUUIDFromBytes(key.toByteArray()).toString())
+        val cached = if (file.exists()) BitmapFactory.decodeFile(file.path) else null
+        if (cached != null) {
+            file.setLastModified(System.currentTimeMillis())
+            return cached
+        }
+
+        val icon = iconDownloader.download(url, circular) ?: return null
+        writeToDisk(file, icon)
+        return icon
+    }
+
+    private fun writeToDisk(file: File, icon: Bitmap) {
+        val dir = file.parentFile ?: return
+        if (!dir.exists() && !dir.mkdirs()) {
+            return
+        }
+        try {
+            // PNG keeps the transparent corners of circular icons
+            FileOutputStream(file).use { icon.compress(Bitmap.CompressFormat.PNG, 100, it) }
+        } catch (e: IOException) {
+            AppLog.e(T.NOTIFS, "Unable to cache notification icon", e)
+            file.delete()
+        }
+        trimDiskCache(dir)
+    }
+
+    private fun trimDiskCache(dir: File) {
+        val files = dir.listFiles() ?: return
+        if (files.size > MAX_DISK_ENTRIES) {
+            files.sortedBy { it.lastModified() }
+                    .take(files.size - MAX_DISK_ENTRIES)
+                    .forEach { it.delete() }
+        }
+    }
+
+    private inner class IconTask(
+        context: Context,
+        private val key: String,
+        url: String,
+        circular: Boolean
+    ) : FutureTask<Bitmap?>({ load(context, key, url, circular) }) {
+        private val lateListeners = mutableListOf<OnIconLoadedListener>()
+
+        fun await(deadlineMillis: Long, onLateIcon: OnIconLoadedListener?): Bitmap? {
+            return try {
+                get(deadlineMillis, TimeUnit.MILLISECONDS)
+            } catch (e: TimeoutException) {
+                if (onLateIcon != null) {
+                    addLateListener(onLateIcon)
+                }
+                null
+            } catch (e: ExecutionException) {
+                AppLog.e(T.NOTIFS, "Unable to load notification icon", e)
+                null
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                null
+            }
+        }
+
+        private fun addLateListener(listener: OnIconLoadedListener) {
+            synchronized(lateListeners) {
+                if (!isDone) {
+                    lateListeners.add(listener)
+                    return
+                }
+            }
+            // Completed between the timeout and now
+            resultOrNull()?.let { listener.onIconLoaded(it) }
+        }
+
+        override fun done() {
+            val icon = resultOrNull()
+            if (icon != null) {
+                memoryCache.put(key, icon)
+            }
+            inFlight.remove(key, this)
+            val listeners = synchronized(lateListeners) { lateListeners.toList().also { lateListeners.clear() } }
+            if (icon != null) {
+                listeners.forEach { it.onIconLoaded(icon) }
+            }
+        }
+
+        @Suppress("SwallowedException")
+        private fun resultOrNull(): Bitmap? = try {
+            get()
+        } catch (e: ExecutionException) {
+            null
+        }
+    }
+
+    companion object {
+        private const val MEMORY_CACHE_BYTES = 4 * 1024 * 1024
+        private const val MAX_DISK_ENTRIES = 100
+        private const val DOWNLOAD_THREADS = 2
+        private const val DISK_CACHE_DIR = "notification_icons"
+    }
+}
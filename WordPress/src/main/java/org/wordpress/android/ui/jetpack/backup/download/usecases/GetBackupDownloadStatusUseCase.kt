@@ -10,6 +10,9 @@ import org.wordpress.android.fluxc.model.activity.BackupDownloadStatusModel
 import org.wordpress.android.fluxc.store.ActivityLogStore
 import org.wordpress.android.fluxc.store.ActivityLogStore.FetchBackupDownloadStatePayload
 import org.wordpress.android.modules.BG_THREAD
+import org.wordpress.android.ui.jetpack.common.JobStatusPollingBackoff
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer.JobType
 import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestState
 import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestState.Complete
 import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestState.Empty
@@ -33,6 +36,7 @@ const val DELAY_FACTOR = 2
 class GetBackupDownloadStatusUseCase @Inject constructor(
     private val networkUtilsWrapper: NetworkUtilsWrapper,
     private val activityLogStore: ActivityLogStore,
+    private val jobStatusRequestCoalescer: JobStatusRequestCoalescer,
     @Named(BG_THREAD) private val bgDispatcher: CoroutineDispatcher
 ) {
     private val tag = javaClass.simpleName
@@ -43,12 +47,15 @@ class GetBackupDownloadStatusUseCase @Inject constructor(
         downloadId: Long? = null
     ) = flow {
         var retryAttempts = 0
+        val backoff = JobStatusPollingBackoff()
         while (true) {
             if (!networkUtilsWrapper.isNetworkAvailable()) {
                 val retryAttemptsExceeded = handleError(retryAttempts++, NetworkUnavailable)
                 if (retryAttemptsExceeded) break else continue
             }
-            val result = activityLogStore.fetchBackupDownloadState(FetchBackupDownloadStatePayload(site))
+            val result = jobStatusRequestCoalescer.coalesce(JobType.BACKUP_DOWNLOAD_STATE, site) {
+                activityLogStore.fetchBackupDownloadState(FetchBackupDownloadStatePayload(site))
+            }
             if (result.isError) {
                 val retryAttemptsExceeded = handleError(retryAttempts++, RemoteRequestFailure)
                 if (retryAttemptsExceeded) break else continue
@@ -62,7 +69,7 @@ class GetBackupDownloadStatusUseCase @Inject constructor(
             if (downloadId == null || status.downloadId == downloadId) {
                 if (emitCompleteElseProgress(status)) break
             }
-            delay(DELAY_MILLIS)
+            delay(backoff.nextDelayMillis(status.progress))
         }
     }.flowOn(bgDispatcher)
 
@@ -0,0 +1,91 @@
+package org.wordpress.android.ui.jetpack.common
+
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
+import org.wordpress.android.fluxc.model.SiteModel
+import javax.inject.Inject
+import javax.inject.Singleton
+import kotlin.coroutines.cancellation.CancellationException
+
+const val MIN_POLL_DELAY_MILLIS = 1000L
+const val MAX_POLL_DELAY_MILLIS = 16000L
+const val POLL_BACKOFF_FACTOR = 2
+
+/**
+ * Decides how long to wait before polling a long running Jetpack job (scan, restore, backup download) again.
+ *
+ * While the reported progress keeps moving the job is polled every [minDelayMillis]. Every poll that reports no
+ * progress doubles the delay, up to [maxDelayMillis], so a job that sits at the same percentage for minutes
+ * stops costing a request per second. One instance tracks one job.
+ */
+class JobStatusPollingBackoff(
+    private val minDelayMillis: Long = MIN_POLL_DELAY_MILLIS,
+    private val maxDelayMillis: Long = MAX_POLL_DELAY_MILLIS
+) {
+    private var lastProgress: Int? = null
+    private var currentDelayMillis = minDelayMillis
+
+    fun nextDelayMillis(progress: Int?): Long {
+        currentDelayMillis = if (progress != null && progress != lastProgress) {
+            minDelayMillis
+        } else {
+            (currentDelayMillis * POLL_BACKOFF_FACTOR).coerceAtMost(maxDelayMillis)
+        }
+        lastProgress = progress ?: lastProgress
+        return currentDelayMillis
+    }
+}
+
+/**
+ * Shares in-flight job status requests between everything polling the same job of the same site.
+ *
+ * Several screens can watch the same job at the same time, each with its own polling loop. Instead of all of them
+ * hitting the endpoint, a request that is already running is awaited by later callers and only the first caller
+ * talks to the network. The results end up in the store, so every caller reads the same fresh state afterwards.
+ */
+@Singleton
+class JobStatusRequestCoalescer @Inject constructor() {
+    private val inFlight = mutableMapOf<RequestKey, CompletableDeferred<Any?>>()
+
+    @Suppress("UNCHECKED_CAST", "TooGenericExceptionCaught")
+    suspend fun <T> coalesce(jobType: JobType, site: SiteModel, request: suspend () -> T): T {
+        val key = RequestKey(jobType, site.id)
+        val existing: CompletableDeferred<Any?>?
+        val owned = CompletableDeferred<Any?>()
+        synchronized(inFlight) {
+            // A completed request may still be registered while its owner unwinds, treat it as gone
+            existing = inFlight[key]?.takeUnless { it.isCompleted }
+            if (existing == null) inFlight[key] = owned
+        }
+
+        if (existing != null) {
+            return try {
+                existing.await() as T
+            } catch (e: CancellationException) {
+                // The caller that owned the request went away; run it ourselves unless we were cancelled too
+                currentCoroutineContext().ensureActive()
+                coalesce(jobType, site, request)
+            }
+        }
+
+        return try {
+            request().also { owned.complete(it) }
+        } catch (e: Throwable) {
+            owned.completeExceptionally(e)
+            throw e
+        } finally {
+            synchronized(inFlight) {
+                if (inFlight[key] === owned) inFlight.remove(key)
+            }
+        }
+    }
+
+    enum class JobType {
+        SCAN_STATE,
+        REWIND_STATE,
+        BACKUP_DOWNLOAD_STATE
+    }
+
+    private data class RequestKey(val jobType: JobType, val localSiteId: Int)
+}
@@ -17,6 +17,9 @@ import org.wordpress.android.fluxc.model.activity.RewindStatusModel.State
 import org.wordpress.android.fluxc.store.ActivityLogStore
 import org.wordpress.android.fluxc.store.ActivityLogStore.FetchRewindStatePayload
 import org.wordpress.android.modules.BG_THREAD
+import org.wordpress.android.ui.jetpack.common.JobStatusPollingBackoff
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer.JobType
 import org.wordpress.android.ui.jetpack.restore.RestoreRequestState
 import org.wordpress.android.ui.jetpack.restore.RestoreRequestState.AwaitingCredentials
 import org.wordpress.android.ui.jetpack.restore.RestoreRequestState.Complete
@@ -40,6 +43,7 @@ const val DELAY_FACTOR = 2
 class GetRestoreStatusUseCase @Inject constructor(
     private val networkUtilsWrapper: NetworkUtilsWrapper,
     private val activityLogStore: ActivityLogStore,
+    private val jobStatusRequestCoalescer: JobStatusRequestCoalescer,
     @Named(BG_THREAD) private val bgDispatcher: CoroutineDispatcher
 ) {
     private val tag = javaClass.simpleName
@@ -51,6 +55,7 @@ class GetRestoreStatusUseCase @Inject constructor(
         checkIfAwaitingCredentials: Boolean = false
     ) = flow {
         var retryAttempts = 0
+        val backoff = JobStatusPollingBackoff()
         while (true) {
             var rewindStatus: RewindStatusModel?
             if (checkIfAwaitingCredentials) {
@@ -96,12 +101,14 @@ class GetRestoreStatusUseCase @Inject constructor(
                     QUEUED -> emitProgress(rewind)
                 }
             }
-            delay(DELAY_MILLIS)
+            delay(backoff.nextDelayMillis(rewind.progress))
         }
     }.flowOn(bgDispatcher)
 
     private suspend fun fetchActivitiesRewind(site: SiteModel): Boolean {
-        val result = activityLogStore.fetchActivitiesRewind(FetchRewindStatePayload(site))
+        val result = jobStatusRequestCoalescer.coalesce(JobType.REWIND_STATE, site) {
+            activityLogStore.fetchActivitiesRewind(FetchRewindStatePayload(site))
+        }
         return !result.isError
     }
 
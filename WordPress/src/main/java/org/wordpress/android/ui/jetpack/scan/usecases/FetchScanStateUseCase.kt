@@ -11,6 +11,9 @@ import org.wordpress.android.fluxc.model.scan.ScanStateModel
 import org.wordpress.android.fluxc.store.ScanStore
 import org.wordpress.android.fluxc.store.ScanStore.FetchScanStatePayload
 import org.wordpress.android.modules.BG_THREAD
+import org.wordpress.android.ui.jetpack.common.JobStatusPollingBackoff
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer.JobType
 import org.wordpress.android.ui.jetpack.restore.usecases.DELAY_FACTOR
 import org.wordpress.android.ui.jetpack.restore.usecases.DELAY_MILLIS
 import org.wordpress.android.ui.jetpack.scan.usecases.FetchScanStateUseCase.FetchScanState.Failure
@@ -23,12 +26,12 @@ import javax.inject.Named
 import kotlin.math.max
 
 const val START_WITH_DELAY_MILLIS = 5000L
-const val FETCH_SCAN_STATE_DELAY_MILLIS = 1000L
 const val MAX_RETRY = 3
 
 class FetchScanStateUseCase @Inject constructor(
     private val networkUtilsWrapper: NetworkUtilsWrapper,
     private val scanStore: ScanStore,
+    private val jobStatusRequestCoalescer: JobStatusRequestCoalescer,
     @Named(BG_THREAD) private val bgDispatcher: CoroutineDispatcher
 ) {
     private val tag = javaClass.simpleName
@@ -39,6 +42,7 @@ class FetchScanStateUseCase @Inject constructor(
         startWithDelay: Boolean = false
     ): Flow<FetchScanState> = flow {
         var retryAttempts = 0
+        val backoff = JobStatusPollingBackoff()
         if (startWithDelay) {
             delay(START_WITH_DELAY_MILLIS)
         }
@@ -49,7 +53,9 @@ class FetchScanStateUseCase @Inject constructor(
                 if (retryAttemptsExceeded) break else continue
             }
 
-            val result = scanStore.fetchScanState(FetchScanStatePayload(site))
+            val result = jobStatusRequestCoalescer.coalesce(JobType.SCAN_STATE, site) {
+                scanStore.fetchScanState(FetchScanStatePayload(site))
+            }
             if (result.isError) {
                 val retryAttemptsExceeded = handleError(retryAttempts++, Failure.RemoteRequestFailure)
                 if (retryAttemptsExceeded) break else continue
@@ -73,7 +79,7 @@ class FetchScanStateUseCase @Inject constructor(
                 return@flow
             }
             retryAttempts = 0
-            delay(FETCH_SCAN_STATE_DELAY_MILLIS)
+            delay(backoff.nextDelayMillis(scanStateModel.currentStatus?.progress))
         }
     }.flowOn(bgDispatcher)
 
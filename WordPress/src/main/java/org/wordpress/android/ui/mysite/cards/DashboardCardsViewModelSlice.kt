@@ -90,6 +90,8 @@ class DashboardCardsViewModelSlice @Inject constructor(
         domainRegistrationCardViewModelSlice.isRefreshing
     )
 
+    // Slices re-post their card on every refresh even when nothing changed. Distinct sources keep an unchanged
+    // card from rebuilding the whole list; the list is only assembled again when a card actually differs.
     val uiModel: MutableLiveData<List<MySiteCardAndItem>> = merge(
         quickLinksItemViewModelSlice.uiState,
         quickStartCardViewModelSlice.uiModel,
@@ -101,7 +103,8 @@ class DashboardCardsViewModelSlice @Inject constructor(
         plansCardViewModelSlice.uiModel,
         personalizeCardViewModelSlice.uiModel,
         jetpackInstallFullPluginCardViewModelSlice.uiModel,
-        domainRegistrationCardViewModelSlice.uiModel
+        domainRegistrationCardViewModelSlice.uiModel,
+        distinct = true
     ) { quicklinks,
         quickStart,
         blazeCard,
@@ -36,7 +36,6 @@ import org.wordpress.android.util.helpers.MediaFile;
 
 import java.text.BreakIterator;
 import java.text.DateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -54,6 +53,13 @@ public class PostUtils {
 
     private static final String GUTENBERG_BLOCK_START = "<!-- wp:";
 
+    // Headers of the media blocks that reference uploaded media, with the block type and the header attributes
+    private static final Pattern PATTERN_GUTENBERG_MEDIA_BLOCK_HEADER =
+            Pattern.compile("<!-- wp:(image|video|audio|file|media-text|gallery) \\{([^\\}]*)\\} -->");
+    private static final Pattern PATTERN_MEDIA_ID_ATTRIBUTE = Pattern.compile("\"id\":(\\d+)");
+    private static final Pattern PATTERN_MEDIA_TEXT_ID_ATTRIBUTE = Pattern.compile("\"mediaId\":(\\d+)");
+    private static final Pattern PATTERN_GALLERY_IDS_ATTRIBUTE = Pattern.compile("\"ids\":\\[([\\d,]*)\\]");
+
     public static Map<String, Object> addPostTypeAndPostFormatToAnalyticsProperties(PostImmutableModel post,
                                                                                     Map<String, Object> properties) {
         if (properties == null) {
@@ -428,7 +434,8 @@ public class PostUtils {
     public static String replaceMediaFileWithUrlInGutenbergPost(@NonNull String postContent,
                                                                 @NonNull String localMediaId, MediaFile mediaFile,
                                                                 @NonNull String siteUrl) {
-        if (mediaFile != null && contentContainsGutenbergBlocks(postContent)) {
+        // every block that gets replaced has the local id in its attributes, skip posts that can't have any
+        if (mediaFile != null && contentContainsGutenbergBlocks(postContent) && postContent.contains(localMediaId)) {
             MediaUploadCompletionProcessor processor = new MediaUploadCompletionProcessor(localMediaId, mediaFile,
                     siteUrl);
             postContent = processor.processContent(postContent);
@@ -438,29 +445,40 @@ public class PostUtils {
 
     public static boolean isMediaInGutenbergPostBody(@NonNull String postContent,
                                             String localMediaId) {
-        List<String> patterns = new ArrayList<>();
-        // Regex for Image, Video, Audio and File blocks
-        patterns.add("<!-- wp:(?:image|video|audio|file){1} \\{[^\\}]*\"id\":%s([^\\d\\}][^\\}]*)*\\} -->");
-        // Regex for Media&Text block
-        patterns.add("<!-- wp:media-text \\{[^\\}]*\"mediaId\":%s([^\\d\\}][^\\}]*)*\\} -->");
-        // Regex for Gallery block
-        patterns.add("<!-- wp:gallery \\{[^\\}]*\"ids\":\\[(?:\\d*,)*%s(?:,\\d*)*\\][^\\}]*\\} -->");
-
-        StringBuilder sb = new StringBuilder();
-        // Merge the patterns into one so we don't need to go over the post content multiple times
-        for (int i = 0; i < patterns.size(); i++) {
-            sb.append("(?:")
-              // insert the media id
-              .append(String.format(patterns.get(i), localMediaId))
-              .append(")");
-            boolean notLast = i != patterns.size() - 1;
-            if (notLast) {
-                sb.append("|");
+        return getMediaIdsInGutenbergPostBody(postContent).contains(localMediaId);
+    }
+
+    /**
+     * Returns the ids of the media referenced by the Image, Video, Audio, File, Media&Text and Gallery blocks of the
+     * post, all found in a single pass over the content. Prefer this over calling isMediaInGutenbergPostBody() for
+     * each media of a post.
+     */
+    @NonNull
+    public static Set<String> getMediaIdsInGutenbergPostBody(@NonNull String postContent) {
+        Set<String> mediaIds = new HashSet<>();
+        Matcher headerMatcher = PATTERN_GUTENBERG_MEDIA_BLOCK_HEADER.matcher(postContent);
+        while (headerMatcher.find()) {
+            String blockType = headerMatcher.group(1);
+            String attributes = headerMatcher.group(2);
+            if ("gallery".equals(blockType)) {
+                Matcher idsMatcher = PATTERN_GALLERY_IDS_ATTRIBUTE.matcher(attributes);
+                while (idsMatcher.find()) {
+                    for (String id : idsMatcher.group(1).split(",")) {
+                        if (!id.isEmpty()) {
+                            mediaIds.add(id);
+                        }
+                    }
+                }
+            } else {
+                Pattern idPattern = "media-text".equals(blockType)
+                        ? PATTERN_MEDIA_TEXT_ID_ATTRIBUTE : PATTERN_MEDIA_ID_ATTRIBUTE;
+                Matcher idMatcher = idPattern.matcher(attributes);
+                while (idMatcher.find()) {
+                    mediaIds.add(idMatcher.group(1));
+                }
             }
         }
-
-        Matcher matcher = Pattern.compile(sb.toString()).matcher(postContent);
-        return matcher.find();
+        return mediaIds;
     }
 
     public static boolean isPostInConflictWithRemote(PostImmutableModel post) {
@@ -37,6 +37,9 @@ class PostUtilsWrapper
     fun isMediaInGutenbergPostBody(postContent: String, localMediaId: String) =
         PostUtils.isMediaInGutenbergPostBody(postContent, localMediaId)
 
+    fun getMediaIdsInGutenbergPostBody(postContent: String): Set<String> =
+        PostUtils.getMediaIdsInGutenbergPostBody(postContent)
+
     fun contentContainsGutenbergBlocks(postContent: String): Boolean =
         PostUtils.contentContainsGutenbergBlocks(postContent)
 
@@ -28,12 +28,18 @@ class CleanUpMediaToPostAssociationUseCase @Inject constructor(
                     uploadStore.getCompletedMediaForPost(post) +
                     uploadStore.getUploadingMediaForPost(post)
 
+            // Scan the blocks once rather than once per media
+            val mediaIdsInGutenbergPost = if (postUtilsWrapper.contentContainsGutenbergBlocks(post.content)) {
+                postUtilsWrapper.getMediaIdsInGutenbergPostBody(post.content)
+            } else {
+                null
+            }
+
             mediaAssociatedWithPost
                 .filter { media ->
                     // Find media which is not in the post anymore
-                    val containsGutenbergBlocks = postUtilsWrapper.contentContainsGutenbergBlocks(post.content)
-                    if (containsGutenbergBlocks) {
-                        !postUtilsWrapper.isMediaInGutenbergPostBody(post.content, media.id.toString())
+                    if (mediaIdsInGutenbergPost != null) {
+                        !mediaIdsInGutenbergPost.contains(media.id.toString())
                     } else {
                         !aztecEditorWrapper.isMediaInPostBody(post.content, media.id.toString())
                     }
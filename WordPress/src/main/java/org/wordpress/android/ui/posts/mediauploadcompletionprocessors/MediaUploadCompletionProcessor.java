@@ -4,6 +4,8 @@ import androidx.annotation.NonNull;
 
 import org.wordpress.android.util.helpers.MediaFile;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -11,6 +13,10 @@ import static org.wordpress.android.ui.posts.mediauploadcompletionprocessors.Med
 import static org.wordpress.android.ui.posts.mediauploadcompletionprocessors.MediaUploadCompletionProcessorPatterns.PATTERN_TEMPLATE_BLOCK_BOUNDARY;
 
 public class MediaUploadCompletionProcessor {
+    // One boundary pattern per media block type, compiled on first use
+    private static final Map<String, Pattern> BLOCK_BOUNDARY_PATTERNS = new ConcurrentHashMap<>();
+
+    private final String mLocalId;
     private final BlockProcessorFactory mBlockProcessorFactory;
 
     /**
@@ -23,39 +29,41 @@ public class MediaUploadCompletionProcessor {
      */
     public MediaUploadCompletionProcessor(@NonNull String localId, @NonNull MediaFile mediaFile,
                                           @NonNull String siteUrl) {
+        mLocalId = localId;
         mBlockProcessorFactory = new BlockProcessorFactory(this, localId, mediaFile, siteUrl);
     }
 
     /**
      * Processes content to replace the local ids and local urls of media with remote ids and remote urls. This method
-     * delineates block boundaries for media-containing blocks and delegates further processing via itself and / or
-     * {@link #processBlock(String, Boolean)}, via direct and mutual recursion, respectively.
+     * delineates block boundaries for media-containing blocks in a single pass over the content and delegates further
+     * processing to {@link #processBlock(String, Boolean)}, which may come back here for the inner blocks of a block
+     * (mutual recursion is bounded by how deeply blocks are nested, not by how many there are).
      *
      * @param content The content to be processed
      * @return A string containing the processed content, or the original content if no match was found
      */
     public String processContent(String content) {
         Matcher headerMatcher = PATTERN_BLOCK_HEADER.matcher(content);
+        StringBuilder result = null;
+        int position = 0;
 
-        int positionBlockStart, positionBlockEnd = content.length();
-
-        if (headerMatcher.find()) {
-            positionBlockStart = headerMatcher.start();
+        while (headerMatcher.find(position)) {
+            int positionBlockStart = headerMatcher.start();
+            int positionBlockEnd = content.length();
             String blockType = headerMatcher.group(1);
             String blockTagSuffix = headerMatcher.group(2);
             Boolean isSelfClosingTag = blockTagSuffix.equals("/-->");
             if (isSelfClosingTag) {
                 positionBlockEnd = headerMatcher.end();
             } else {
-                Matcher blockBoundaryMatcher =
-                        Pattern.compile(String.format(PATTERN_TEMPLATE_BLOCK_BOUNDARY, blockType),
-                                Pattern.DOTALL).matcher(content.substring(headerMatcher.end()));
+                Matcher blockBoundaryMatcher = getBlockBoundaryPattern(blockType).matcher(content);
+                blockBoundaryMatcher.region(headerMatcher.end(), content.length());
 
                 int nestLevel = 1;
 
                 while (0 < nestLevel && blockBoundaryMatcher.find()) {
                     if (blockBoundaryMatcher.group(1).equals("/")) {
-                        positionBlockEnd = headerMatcher.end() + blockBoundaryMatcher.end();
+                        positionBlockEnd = blockBoundaryMatcher.end();
                         nestLevel--;
                     } else {
                         nestLevel++;
@@ -63,14 +71,28 @@ public class MediaUploadCompletionProcessor {
                 }
             }
 
-            return new StringBuilder()
-                    .append(content.substring(0, positionBlockStart))
-                    .append(processBlock(content.substring(positionBlockStart, positionBlockEnd), isSelfClosingTag))
-                    .append(processContent(content.substring(positionBlockEnd)))
-                    .toString();
-        } else {
+            if (result == null) {
+                result = new StringBuilder(content.length());
+            }
+            result.append(content, position, positionBlockStart)
+                  .append(processBlock(content.substring(positionBlockStart, positionBlockEnd), isSelfClosingTag));
+            position = positionBlockEnd;
+        }
+
+        if (result == null) {
             return content;
         }
+        return result.append(content, position, content.length()).toString();
+    }
+
+    @NonNull
+    private static Pattern getBlockBoundaryPattern(@NonNull String blockType) {
+        Pattern pattern = BLOCK_BOUNDARY_PATTERNS.get(blockType);
+        if (pattern == null) {
+            pattern = Pattern.compile(String.format(PATTERN_TEMPLATE_BLOCK_BOUNDARY, blockType), Pattern.DOTALL);
+            BLOCK_BOUNDARY_PATTERNS.put(blockType, pattern);
+        }
+        return pattern;
     }
 
     /**
@@ -81,6 +103,11 @@ public class MediaUploadCompletionProcessor {
      */
     @NonNull
     private String processBlock(@NonNull String block, Boolean isSelfClosingTag) {
+        // A block (or its inner blocks) can only match if it mentions the local id, skip parsing the others
+        if (!block.contains(mLocalId)) {
+            return block;
+        }
+
         final MediaBlockType blockType = MediaBlockType.detectBlockType(block);
 
         if (blockType != null) {
@@ -37,6 +37,8 @@ import org.wordpress.android.ui.reader.actions.ReaderActions.UpdateResult;
 import org.wordpress.android.ui.reader.actions.ReaderActions.UpdateResultListener;
 import org.wordpress.android.ui.reader.models.ReaderSimplePost;
 import org.wordpress.android.ui.reader.models.ReaderSimplePostList;
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor;
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor.Priority;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.AppLog.T;
 import org.wordpress.android.util.DateTimeUtils;
@@ -174,7 +176,7 @@ public class ReaderPostActions {
 
         final Handler handler = new Handler();
 
-        new Thread() {
+        ReaderBackgroundExecutor.execute(Priority.FOREGROUND, new Runnable() {
             @Override
             public void run() {
                 ReaderPost serverPost = ReaderPost.fromJson(jsonObject);
@@ -226,7 +228,7 @@ public class ReaderPostActions {
                     });
                 }
             }
-        }.start();
+        });
     }
 
     /*
@@ -290,7 +292,7 @@ public class ReaderPostActions {
         com.wordpress.rest.RestRequest.Listener listener = new RestRequest.Listener() {
             @Override
             public void onResponse(JSONObject jsonObject) {
-                new Thread(() -> {
+                ReaderBackgroundExecutor.execute(Priority.FOREGROUND, () -> {
                     ReaderPost post = ReaderPost.fromJson(jsonObject);
 
                     ReaderPostTable.addPost(post);
@@ -299,7 +301,7 @@ public class ReaderPostActions {
                     if (requestListener != null) {
                         requestListener.onSuccess(post.getBlogUrl());
                     }
-                }).start();
+                });
             }
         };
         RestRequest.ErrorListener errorListener = new RestRequest.ErrorListener() {
@@ -430,7 +432,7 @@ public class ReaderPostActions {
             return;
         }
 
-        new Thread() {
+        ReaderBackgroundExecutor.execute(Priority.BACKGROUND, new Runnable() {
             @Override
             public void run() {
                 JSONArray jsonPosts = jsonObject.optJSONArray("posts");
@@ -450,7 +452,7 @@ public class ReaderPostActions {
                                                                                     globalRelatedPosts, true));
                 }
             }
-        }.start();
+        });
     }
 
     public static void addToBookmarked(@NonNull final ReaderPost post) {
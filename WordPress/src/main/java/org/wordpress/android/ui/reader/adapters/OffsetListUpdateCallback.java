@@ -0,0 +1,39 @@
+package org.wordpress.android.ui.reader.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+/*
+ * forwards list updates shifted by a fixed number of rows, used to apply a diff of the posts past the
+ * announcement and header rows of ReaderPostAdapter
+ */
+class OffsetListUpdateCallback implements ListUpdateCallback {
+    private final ListUpdateCallback mCallback;
+    private final int mOffset;
+
+    OffsetListUpdateCallback(@NonNull ListUpdateCallback callback, int offset) {
+        mCallback = callback;
+        mOffset = offset;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+        mCallback.onInserted(position + mOffset, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+        mCallback.onRemoved(position + mOffset, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+        mCallback.onMoved(fromPosition + mOffset, toPosition + mOffset);
+    }
+
+    @Override
+    public void onChanged(int position, int count, @Nullable Object payload) {
+        mCallback.onChanged(position + mOffset, count, payload);
+    }
+}
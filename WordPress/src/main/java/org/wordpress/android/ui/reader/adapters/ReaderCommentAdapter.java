@@ -731,8 +731,13 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
             int numLocalComments = ReaderCommentTable.getNumCommentsForPost(mPost);
             mTmpMoreCommentsExist = (numServerComments > numLocalComments);
 
-            mTmpComments = ReaderCommentTable.getCommentsForPost(mPost);
-            return !mComments.isSameList(mTmpComments);
+            ReaderCommentList comments = ReaderCommentTable.getCommentsForPost(mPost);
+            if (mComments.isSameList(comments)) {
+                return false;
+            }
+            // sort children under their parents and apply indent levels here rather than on the main thread
+            mTmpComments = new ReaderCommentLeveler(comments).createLevelList();
+            return true;
         }
 
         @Override
@@ -740,8 +745,7 @@ public class ReaderCommentAdapter extends RecyclerView.Adapter<RecyclerView.View
             mMoreCommentsExist = mTmpMoreCommentsExist;
 
             if (result) {
-                // assign the comments with children sorted under their parents and indent levels applied
-                mComments = new ReaderCommentLeveler(mTmpComments).createLevelList();
+                mComments = mTmpComments;
                 notifyDataSetChanged();
             }
             if (mDataLoadedListener != null) {
@@ -16,6 +16,8 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LifecycleCoroutineScope;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.wordpress.android.R;
@@ -819,9 +821,18 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
 
         private int mGapMarkerPositionTemp;
 
+        // snapshot of what the adapter showed when the task started, used to diff against the new posts
+        private final ReaderPostList mOldPosts = new ReaderPostList();
+        private int mOldGapMarkerPosition;
+        private int mOldItemPositionOffset;
+        private DiffUtil.DiffResult mDiffResult;
+
         @Override
         protected void onPreExecute() {
             mIsTaskRunning = true;
+            mOldPosts.addAll(mPosts);
+            mOldGapMarkerPosition = mGapMarkerPosition;
+            mOldItemPositionOffset = getItemPositionOffset();
         }
 
         @Override
@@ -855,6 +866,29 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
             // determine whether a gap marker exists - only applies to tagged posts
             mGapMarkerPositionTemp = getGapMarkerPosition();
 
+            // work out which rows changed here so only those are rebound on the main thread
+            mDiffResult = DiffUtil.calculateDiff(new ReaderPostRowsDiffCallback(
+                    ReaderPostRowsDiffCallback.toRows(mOldPosts, mOldGapMarkerPosition, mOldItemPositionOffset),
+                    ReaderPostRowsDiffCallback.toRows(mAllPosts, mGapMarkerPositionTemp, mOldItemPositionOffset)));
+
+            return true;
+        }
+
+        /*
+         * the diff only applies if nothing touched the list while the task was running
+         */
+        private boolean isDiffStillValid() {
+            if (mDiffResult == null
+                || mGapMarkerPosition != mOldGapMarkerPosition
+                || getItemPositionOffset() != mOldItemPositionOffset
+                || mPosts.size() != mOldPosts.size()) {
+                return false;
+            }
+            for (int i = 0; i < mPosts.size(); i++) {
+                if (mPosts.get(i) != mOldPosts.get(i)) {
+                    return false;
+                }
+            }
             return true;
         }
 
@@ -890,10 +924,16 @@ public class ReaderPostAdapter extends RecyclerView.Adapter<RecyclerView.ViewHol
         @Override
         protected void onPostExecute(Boolean result) {
             if (result) {
+                boolean canDispatchDiff = isDiffStillValid();
                 ReaderPostAdapter.this.mGapMarkerPosition = mGapMarkerPositionTemp;
                 mPosts.clear();
                 mPosts.addAll(mAllPosts);
-                notifyDataSetChanged();
+                if (canDispatchDiff) {
+                    mDiffResult.dispatchUpdatesTo(new OffsetListUpdateCallback(
+                            new AdapterListUpdateCallback(ReaderPostAdapter.this), mOldItemPositionOffset));
+                } else {
+                    notifyDataSetChanged();
+                }
             }
 
             if (mDataLoadedListener != null) {
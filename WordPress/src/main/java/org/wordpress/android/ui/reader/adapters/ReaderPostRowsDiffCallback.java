@@ -0,0 +1,74 @@
+package org.wordpress.android.ui.reader.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import org.wordpress.android.models.ReaderPost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * compares the post rows of ReaderPostAdapter by ids and by the fields isSameListWithBookmark() checks - null rows
+ * are the gap marker
+ */
+class ReaderPostRowsDiffCallback extends DiffUtil.Callback {
+    private final List<ReaderPost> mOldRows;
+    private final List<ReaderPost> mNewRows;
+
+    ReaderPostRowsDiffCallback(@NonNull List<ReaderPost> oldRows, @NonNull List<ReaderPost> newRows) {
+        mOldRows = oldRows;
+        mNewRows = newRows;
+    }
+
+    /*
+     * the posts as they're laid out below the announcement and header rows, with null standing in for the gap
+     * marker - gapMarkerPosition is an adapter position, -1 when there's no gap marker
+     */
+    @NonNull
+    static List<ReaderPost> toRows(@NonNull List<ReaderPost> posts, int gapMarkerPosition, int itemPositionOffset) {
+        List<ReaderPost> rows = new ArrayList<>(posts);
+        int gapMarkerIndex = gapMarkerPosition - itemPositionOffset;
+        if (gapMarkerPosition >= 0 && gapMarkerIndex >= 0 && gapMarkerIndex <= rows.size()) {
+            rows.add(gapMarkerIndex, null);
+        }
+        return rows;
+    }
+
+    @Override
+    public int getOldListSize() {
+        return mOldRows.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+        return mNewRows.size();
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+        ReaderPost oldPost = mOldRows.get(oldItemPosition);
+        ReaderPost newPost = mNewRows.get(newItemPosition);
+        if (oldPost == null || newPost == null) {
+            return oldPost == newPost;
+        }
+        return isSamePostIds(oldPost, newPost);
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+        ReaderPost oldPost = mOldRows.get(oldItemPosition);
+        ReaderPost newPost = mNewRows.get(newItemPosition);
+        if (oldPost == null || newPost == null) {
+            return oldPost == newPost;
+        }
+        return newPost.isSamePost(oldPost) && newPost.isBookmarked == oldPost.isBookmarked;
+    }
+
+    private static boolean isSamePostIds(@NonNull ReaderPost oldPost, @NonNull ReaderPost newPost) {
+        if (oldPost.postId != newPost.postId || oldPost.isExternal != newPost.isExternal) {
+            return false;
+        }
+        return newPost.isExternal ? oldPost.feedId == newPost.feedId : oldPost.blogId == newPost.blogId;
+    }
+}
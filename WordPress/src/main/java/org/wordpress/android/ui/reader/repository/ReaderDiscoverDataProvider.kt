@@ -6,6 +6,8 @@ import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
 import kotlinx.coroutines.withContext
 import org.greenrobot.eventbus.Subscribe
 import org.greenrobot.eventbus.ThreadMode.BACKGROUND
@@ -62,6 +64,10 @@ class ReaderDiscoverDataProvider @Inject constructor(
 
     // Indicates that the data was changed in the db while no-one was subscribed to the feed.
     private val isDirty = AtomicBoolean()
+
+    // Set for every change to the db, cleared by the reload that picks the changes up
+    private val isReloadRequested = AtomicBoolean()
+    private val reloadMutex = Mutex()
     private var isLoadMoreRequestInProgress = false
     private val _discoverFeed = ReactiveMutableLiveData<ReaderDiscoverCards>(
         onActive = { onActiveDiscoverFeed() }, onInactive = { onInactiveDiscoverFeed() })
@@ -147,8 +153,14 @@ class ReaderDiscoverDataProvider @Inject constructor(
 
     private suspend fun reloadPosts() {
         withContext(ioDispatcher) {
-            val result = getDiscoverCardsUseCase.get()
-            _discoverFeed.postValue(result)
+            isReloadRequested.set(true)
+            reloadMutex.withLock {
+                // Changes that arrive while the feed is being reloaded are all picked up by a single next reload
+                if (isReloadRequested.getAndSet(false)) {
+                    val result = getDiscoverCardsUseCase.get()
+                    _discoverFeed.postValue(result)
+                }
+            }
         }
     }
 
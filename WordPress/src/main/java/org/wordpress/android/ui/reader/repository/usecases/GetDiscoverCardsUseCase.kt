@@ -1,24 +1,36 @@
 package org.wordpress.android.ui.reader.repository.usecases
 
-import dagger.Reusable
 import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
 import kotlinx.coroutines.withContext
 import org.wordpress.android.datasets.ReaderBlogTableWrapper
 import org.wordpress.android.datasets.ReaderDiscoverCardsTableWrapper
 import org.wordpress.android.datasets.wrappers.ReaderPostTableWrapper
 import org.wordpress.android.fluxc.utils.AppLogWrapper
-import org.wordpress.android.models.discover.ReaderDiscoverCard
+import org.wordpress.android.models.ReaderTagList
 import org.wordpress.android.models.discover.ReaderDiscoverCard.InterestsYouMayLikeCard
 import org.wordpress.android.models.discover.ReaderDiscoverCard.ReaderPostCard
 import org.wordpress.android.models.discover.ReaderDiscoverCard.ReaderRecommendedBlogsCard
 import org.wordpress.android.models.discover.ReaderDiscoverCards
 import org.wordpress.android.modules.IO_THREAD
 import org.wordpress.android.ui.reader.ReaderConstants
+import org.wordpress.android.ui.reader.models.ReaderBlogIdPostId
 import org.wordpress.android.util.AppLog.T.READER
 import javax.inject.Inject
 import javax.inject.Named
+import javax.inject.Singleton
 
-@Reusable
+/**
+ * Builds the Discover feed from the stored /cards pages.
+ *
+ * Stored pages never change, so each one is parsed once and kept as a list of [StoredCard]s keyed by its page id.
+ * Loading more cards only parses the new page. Page ids start over when the reader database is reset, so the
+ * parsed pages are dropped whenever the table generation changes. The posts and blogs the cards point to can change
+ * at any time (likes, follows, ...) so they're read again on every call, with one query for all the posts and one for
+ * all the blogs instead of one per card.
+ */
+@Singleton
 class GetDiscoverCardsUseCase @Inject constructor(
     private val parseDiscoverCardsJsonUseCase: ParseDiscoverCardsJsonUseCase,
     private val readerDiscoverCardsTableWrapper: ReaderDiscoverCardsTableWrapper,
@@ -27,45 +39,89 @@ class GetDiscoverCardsUseCase @Inject constructor(
     private val appLogWrapper: AppLogWrapper,
     @Named(IO_THREAD) private val ioDispatcher: CoroutineDispatcher
 ) {
+    private val mutex = Mutex()
+    private val parsedPages = LinkedHashMap<Long, List<StoredCard>>()
+    private var parsedGeneration = 0
+
     suspend fun get(): ReaderDiscoverCards = withContext(ioDispatcher) {
-        val cardJsonList = readerDiscoverCardsTableWrapper.loadDiscoverCardsJsons()
-        val cards: ArrayList<ReaderDiscoverCard> = arrayListOf()
+        val storedCards = mutex.withLock { loadStoredCards() }
+        if (storedCards.isEmpty()) {
+            return@withContext ReaderDiscoverCards(emptyList())
+        }
 
-        if (cardJsonList.isNotEmpty()) {
-            val jsonObjects = parseDiscoverCardsJsonUseCase.convertListOfJsonArraysIntoSingleJsonArray(
-                cardJsonList
-            )
+        val posts = readerPostTableWrapper.getBlogPosts(
+            storedCards.filterIsInstance<StoredCard.Post>().map { ReaderBlogIdPostId(it.blogId, it.postId) },
+            false
+        ).associateBy { Pair(it.blogId, it.postId) }
+        val blogs = readerBlogTableWrapper.getReaderBlogs(
+            storedCards.filterIsInstance<StoredCard.RecommendedBlogs>().flatMap { it.blogIds }.distinct()
+        )
 
-            forLoop@ for (i in 0 until jsonObjects.length()) {
-                val cardJson = jsonObjects.getJSONObject(i)
-                when (cardJson.getString(ReaderConstants.JSON_CARD_TYPE)) {
-                    ReaderConstants.JSON_CARD_INTERESTS_YOU_MAY_LIKE -> {
-                        val interests = parseDiscoverCardsJsonUseCase.parseInterestCard(cardJson)
-                        cards.add(InterestsYouMayLikeCard(interests))
-                    }
-                    ReaderConstants.JSON_CARD_POST -> {
-                        // TODO we might want to load the data in batch
-                        val (blogId, postId) = parseDiscoverCardsJsonUseCase.parseSimplifiedPostCard(cardJson)
-                        val post = readerPostTableWrapper.getBlogPost(blogId, postId, false)
-                        if (post != null) {
-                            cards.add(ReaderPostCard(post))
-                        } else {
-                            appLogWrapper.d(READER, "Post from /cards json not found in ReaderDatabase")
-                            continue@forLoop
-                        }
-                    }
-                    ReaderConstants.JSON_CARD_RECOMMENDED_BLOGS -> {
-                        cardJson?.let {
-                            val recommendedBlogs = parseDiscoverCardsJsonUseCase.parseSimplifiedRecommendedBlogsCard(it)
-                                .mapNotNull { (blogId, feedId) ->
-                                    readerBlogTableWrapper.getReaderBlog(blogId, feedId)
-                                }
-                            cards.add(ReaderRecommendedBlogsCard(recommendedBlogs))
-                        }
+        val cards = storedCards.mapNotNull { storedCard ->
+            when (storedCard) {
+                is StoredCard.Interests -> InterestsYouMayLikeCard(storedCard.interests)
+                is StoredCard.Post -> {
+                    val post = posts[Pair(storedCard.blogId, storedCard.postId)]
+                    if (post == null) {
+                        appLogWrapper.d(READER, "Post from /cards json not found in ReaderDatabase")
                     }
+                    post?.let { ReaderPostCard(it) }
+                }
+                is StoredCard.RecommendedBlogs -> {
+                    ReaderRecommendedBlogsCard(storedCard.blogIds.mapNotNull { blogs[it] })
                 }
             }
         }
         return@withContext ReaderDiscoverCards(cards)
     }
+
+    private fun loadStoredCards(): List<StoredCard> {
+        // Read before the pages, a reset happening after this is caught by the next call
+        val generation = readerDiscoverCardsTableWrapper.getGeneration()
+        if (generation != parsedGeneration) {
+            parsedPages.clear()
+            parsedGeneration = generation
+        }
+        val pageIds = readerDiscoverCardsTableWrapper.loadDiscoverCardsPageIds()
+        // Forget the pages that were cleared, within a generation ids aren't reused so anything new has a higher id
+        parsedPages.keys.retainAll(pageIds.toSet())
+        val lastParsedPageId = parsedPages.keys.maxOrNull() ?: 0L
+        if (pageIds.any { it > lastParsedPageId }) {
+            readerDiscoverCardsTableWrapper.loadDiscoverCardsPages(lastParsedPageId).forEach { (pageId, json) ->
+                parsedPages[pageId] = parsePage(json)
+            }
+        }
+        return pageIds.flatMap { parsedPages[it].orEmpty() }
+    }
+
+    private fun parsePage(json: String): List<StoredCard> {
+        val jsonObjects = parseDiscoverCardsJsonUseCase.convertListOfJsonArraysIntoSingleJsonArray(listOf(json))
+        val cards = ArrayList<StoredCard>(jsonObjects.length())
+        for (i in 0 until jsonObjects.length()) {
+            val cardJson = jsonObjects.getJSONObject(i)
+            when (cardJson.getString(ReaderConstants.JSON_CARD_TYPE)) {
+                ReaderConstants.JSON_CARD_INTERESTS_YOU_MAY_LIKE -> {
+                    cards.add(StoredCard.Interests(parseDiscoverCardsJsonUseCase.parseInterestCard(cardJson)))
+                }
+                ReaderConstants.JSON_CARD_POST -> {
+                    val (blogId, postId) = parseDiscoverCardsJsonUseCase.parseSimplifiedPostCard(cardJson)
+                    cards.add(StoredCard.Post(blogId, postId))
+                }
+                ReaderConstants.JSON_CARD_RECOMMENDED_BLOGS -> {
+                    val blogIds = parseDiscoverCardsJsonUseCase.parseSimplifiedRecommendedBlogsCard(cardJson)
+                    cards.add(StoredCard.RecommendedBlogs(blogIds))
+                }
+            }
+        }
+        return cards
+    }
+
+    /**
+     * A card as stored in a /cards page, with only the ids of the posts and blogs it shows.
+     */
+    private sealed class StoredCard {
+        class Interests(val interests: ReaderTagList) : StoredCard()
+        class Post(val blogId: Long, val postId: Long) : StoredCard()
+        class RecommendedBlogs(val blogIds: List<Pair<Long, Long>>) : StoredCard()
+    }
 }
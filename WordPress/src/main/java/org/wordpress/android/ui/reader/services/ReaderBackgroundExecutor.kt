@@ -0,0 +1,74 @@
+package org.wordpress.android.ui.reader.services
+
+import android.os.Process
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Runs the Reader's response handling (parsing JSON and writing it to the Reader database) on a small shared pool
+ * instead of a new thread per response.
+ *
+ * At most [MAX_THREADS] tasks run at once; the rest wait in a queue ordered by [Priority] and then by submission
+ * order, so parsing the feed the user is looking at isn't stuck behind a burst of tag or followed site refreshes.
+ * Threads are released after [KEEP_ALIVE_SECONDS] without work.
+ *
+ * Tasks must not block waiting on other tasks submitted here. Exceptions are not caught, they surface on the worker
+ * thread just like they did on the threads this replaces.
+ */
+object ReaderBackgroundExecutor {
+    private const val MAX_THREADS = 3
+    private const val KEEP_ALIVE_SECONDS = 30L
+    private const val THREAD_NAME_PREFIX = "ReaderBackground-"
+
+    enum class Priority {
+        /**
+         * Work the user is waiting on: the post list, comments, search results or interest tags currently on screen.
+         */
+        FOREGROUND,
+
+        /**
+         * Refreshes nobody is looking at yet: tags, followed sites, related posts.
+         */
+        BACKGROUND
+    }
+
+    private val sequence = AtomicLong()
+
+    private val executor = ThreadPoolExecutor(
+        MAX_THREADS,
+        MAX_THREADS,
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        PriorityBlockingQueue(),
+        ReaderThreadFactory()
+    ).apply { allowCoreThreadTimeOut(true) }
+
+    @JvmStatic
+    fun execute(priority: Priority, task: Runnable) {
+        executor.execute(PrioritizedTask(priority, sequence.getAndIncrement(), task))
+    }
+
+    private class PrioritizedTask(
+        private val priority: Priority,
+        private val sequence: Long,
+        private val task: Runnable
+    ) : Runnable, Comparable<PrioritizedTask> {
+        override fun run() = task.run()
+
+        override fun compareTo(other: PrioritizedTask): Int =
+            compareValuesBy(this, other, { it.priority }, { it.sequence })
+    }
+
+    private class ReaderThreadFactory : ThreadFactory {
+        private val count = AtomicInteger()
+
+        override fun newThread(runnable: Runnable) = Thread({
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND)
+            runnable.run()
+        }, THREAD_NAME_PREFIX + count.incrementAndGet())
+    }
+}
@@ -12,6 +12,8 @@ import org.wordpress.android.datasets.ReaderPostTable;
 import org.wordpress.android.models.ReaderPostList;
 import org.wordpress.android.ui.reader.ReaderConstants;
 import org.wordpress.android.ui.reader.ReaderEvents;
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor;
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor.Priority;
 import org.wordpress.android.ui.reader.services.ServiceCompletionListener;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.PerAppLocaleManager;
@@ -62,7 +64,7 @@ public class ReaderSearchLogic {
     }
 
     private void handleSearchResponse(final String query, final int offset, final JSONObject jsonObject) {
-        new Thread() {
+        ReaderBackgroundExecutor.execute(Priority.FOREGROUND, new Runnable() {
             @Override
             public void run() {
                 ReaderPostList serverPosts = ReaderPostList.fromJson(jsonObject);
@@ -70,6 +72,6 @@ public class ReaderSearchLogic {
                 EventBus.getDefault().post(new ReaderEvents.SearchPostsEnded(query, offset, true));
                 mCompletionListener.onCompleted(mListenerCompanion);
             }
-        }.start();
+        });
     }
 }
@@ -26,6 +26,8 @@ import org.wordpress.android.ui.reader.ReaderConstants;
 import org.wordpress.android.ui.reader.ReaderEvents.FollowedBlogsFetched;
 import org.wordpress.android.ui.reader.ReaderEvents.FollowedTagsFetched;
 import org.wordpress.android.ui.reader.ReaderEvents.InterestTagsFetchEnded;
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor;
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor.Priority;
 import org.wordpress.android.ui.reader.services.ServiceCompletionListener;
 import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.JSONUtils;
@@ -142,7 +144,7 @@ public class ReaderUpdateLogic {
     }
 
     private void handleUpdateTagsResponse(final JSONObject jsonObject) {
-        new Thread() {
+        ReaderBackgroundExecutor.execute(Priority.BACKGROUND, new Runnable() {
             @Override
             public void run() {
                 // get server topics, both default & followed - but use "recommended" for logged-out
@@ -201,7 +203,7 @@ public class ReaderUpdateLogic {
 
                 taskCompleted(UpdateTask.TAGS);
             }
-        }.start();
+        });
     }
 
     /*
@@ -284,7 +286,7 @@ public class ReaderUpdateLogic {
     }
 
     private void handleInterestTagsResponse(final JSONObject jsonObject) {
-        new Thread() {
+        ReaderBackgroundExecutor.execute(Priority.FOREGROUND, new Runnable() {
             @Override
             public void run() {
                 ReaderTagList interestTags = new ReaderTagList();
@@ -292,7 +294,7 @@ public class ReaderUpdateLogic {
                 EventBus.getDefault().post(new InterestTagsFetchEnded(interestTags, true));
                 taskCompleted(UpdateTask.INTEREST_TAGS);
             }
-        }.start();
+        });
     }
 
     /***
@@ -322,7 +324,7 @@ public class ReaderUpdateLogic {
     }
 
     private void handleFollowedBlogsResponse(final ReaderBlogList serverBlogs, final JSONObject jsonObject) {
-        new Thread() {
+        ReaderBackgroundExecutor.execute(Priority.BACKGROUND, new Runnable() {
             @Override
             public void run() {
                 ReaderBlogList currentPageServerResponse = ReaderBlogList.fromJson(jsonObject);
@@ -363,7 +365,7 @@ public class ReaderUpdateLogic {
                     taskCompleted(UpdateTask.FOLLOWED_BLOGS);
                 }
             }
-        }.start();
+        });
     }
 
     /**
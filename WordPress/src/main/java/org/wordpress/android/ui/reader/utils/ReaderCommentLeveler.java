@@ -1,10 +1,17 @@
 package org.wordpress.android.ui.reader.utils;
 
 import androidx.annotation.NonNull;
+import androidx.collection.LongSparseArray;
 
 import org.wordpress.android.models.ReaderComment;
 import org.wordpress.android.models.ReaderCommentList;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 /*
  * utility class which accepts a list of comments and then creates a "level list" from it
  * which places child comments below their parents with indentation levels applied
@@ -20,66 +27,51 @@ public class ReaderCommentLeveler {
     public ReaderCommentList createLevelList() {
         ReaderCommentList result = new ReaderCommentList();
 
-        // reset all levels, and add root comments to result
+        // index children by parent in a single pass, keeping the original order of siblings
+        LongSparseArray<ReaderCommentList> childrenByParentId = new LongSparseArray<>();
         for (ReaderComment comment : mComments) {
             comment.level = 0;
-            if (comment.parentId == 0) {
-                result.add(comment);
+            ReaderCommentList siblings = childrenByParentId.get(comment.parentId);
+            if (siblings == null) {
+                siblings = new ReaderCommentList();
+                childrenByParentId.put(comment.parentId, siblings);
             }
+            siblings.add(comment);
         }
 
-        // add children at each level
-        int level = 0;
-        while (walkCommentsAtLevel(result, level)) {
-            level++;
+        // walk the tree depth-first from the root comments so each comment lands right below its parent, which
+        // visits every comment once - comments whose parent isn't in the list are skipped as before
+        ReaderCommentList roots = childrenByParentId.get(0);
+        if (roots == null) {
+            return result;
         }
-
-        return result;
-    }
-
-    /*
-     * walk comments in the passed list that have the passed level and add their children
-     * beneath them
-     */
-    private boolean walkCommentsAtLevel(@NonNull ReaderCommentList comments, int level) {
-        boolean hasChanges = false;
-        for (int index = 0; index < comments.size(); index++) {
-            ReaderComment parent = comments.get(index);
-            if (parent.level == level && hasChildren(parent.commentId)) {
-                // get children for this comment, set their level, then add them below the parent
-                ReaderCommentList children = getChildren(parent.commentId);
-                setLevel(children, level + 1);
-                comments.addAll(index + 1, children);
-                hasChanges = true;
-                // skip past the children we just added
-                index += children.size();
+        Deque<ReaderComment> stack = new ArrayDeque<>();
+        pushChildren(stack, roots, 0);
+        Set<ReaderComment> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (!stack.isEmpty()) {
+            ReaderComment comment = stack.pop();
+            if (!visited.add(comment)) {
+                // guards against malformed data where a comment ends up being its own ancestor
+                continue;
             }
-        }
-        return hasChanges;
-    }
-
-    private boolean hasChildren(long commentId) {
-        for (ReaderComment comment : mComments) {
-            if (comment.parentId == commentId) {
-                return true;
+            result.add(comment);
+            ReaderCommentList children = comment.commentId != 0 ? childrenByParentId.get(comment.commentId) : null;
+            if (children != null) {
+                pushChildren(stack, children, comment.level + 1);
             }
         }
-        return false;
-    }
 
-    private ReaderCommentList getChildren(long commentId) {
-        ReaderCommentList children = new ReaderCommentList();
-        for (ReaderComment comment : mComments) {
-            if (comment.parentId == commentId) {
-                children.add(comment);
-            }
-        }
-        return children;
+        return result;
     }
 
-    private void setLevel(@NonNull ReaderCommentList comments, int level) {
-        for (ReaderComment comment : comments) {
-            comment.level = level;
+    /*
+     * push the passed comments with the passed level so they're popped in their original order
+     */
+    private void pushChildren(@NonNull Deque<ReaderComment> stack, @NonNull ReaderCommentList children, int level) {
+        for (int index = children.size() - 1; index >= 0; index--) {
+            ReaderComment child = children.get(index);
+            child.level = level;
+            stack.push(child);
         }
     }
 }
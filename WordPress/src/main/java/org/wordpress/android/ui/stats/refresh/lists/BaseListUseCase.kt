@@ -5,7 +5,10 @@ import androidx.lifecycle.MediatorLiveData
 import androidx.lifecycle.MutableLiveData
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
 import kotlinx.coroutines.withContext
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.SiteModel
@@ -74,6 +77,8 @@ class BaseListUseCase(
         it?.let { SnackbarMessageHolder(UiStringRes(it)) }
     }
 
+    private val fetchPermits = Semaphore(MAX_PARALLEL_BLOCK_FETCHES)
+
     private val mutableListSelected = SingleLiveEvent<Unit?>()
     val listSelected: LiveData<Unit?> = mutableListSelected
 
@@ -86,13 +91,18 @@ class BaseListUseCase(
     }
 
     private suspend fun onParamChanged(param: UseCaseParam) {
-        statsTypes.value?.forEach { type ->
-            useCases.find { it.type == type }
-                ?.let { block ->
-                    withContext(bgDispatcher) {
-                        block.onParamsChange(param)
+        val visibleTypes = statsTypes.value ?: return
+        // Blocks are independent, so fetch them side by side instead of one round-trip after another
+        coroutineScope {
+            visibleTypes.forEach { type ->
+                useCases.find { it.type == type }
+                    ?.let { block ->
+                        launch(bgDispatcher) {
+                            fetchPermits.withPermit { block.onParamsChange(param) }
+                            block.startPrefetch(fetchPermits)
+                        }
                     }
-                }
+            }
         }
     }
 
@@ -117,7 +127,8 @@ class BaseListUseCase(
                     useCases.find { it.type == type }
                         ?.let { block ->
                             launch(bgDispatcher) {
-                                block.fetch(refresh, forced)
+                                fetchPermits.withPermit { block.fetch(refresh, forced) }
+                                block.startPrefetch(fetchPermits)
                             }
                         }
                 }
@@ -150,4 +161,8 @@ class BaseListUseCase(
         getStatsTypes,
         mapUiModel
     )
+
+    companion object {
+        private const val MAX_PARALLEL_BLOCK_FETCHES = 4
+    }
 }
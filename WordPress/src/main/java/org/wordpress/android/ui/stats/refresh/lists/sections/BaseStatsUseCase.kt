@@ -7,6 +7,8 @@ import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
 import kotlinx.coroutines.withContext
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.network.utils.StatsGranularity
@@ -44,6 +46,8 @@ abstract class BaseStatsUseCase<DOMAIN_MODEL, UI_STATE>(
     private var domainModel: DOMAIN_MODEL? = null
     private var uiState: UI_STATE = defaultUiState
     private var updateJob: Job? = null
+    private var prefetchJob: Job? = null
+    private var canPrefetch = false
 
     private val _liveData = MutableLiveData<UseCaseModel>()
     val liveData: LiveData<UseCaseModel> = _liveData
@@ -57,6 +61,7 @@ abstract class BaseStatsUseCase<DOMAIN_MODEL, UI_STATE>(
      * @param forced is true when we want to get fresh data and skip the cache
      */
     suspend fun fetch(refresh: Boolean, forced: Boolean) {
+        cancelPrefetch()
         val firstLoad = domainModel == null
         var emptyDb = false
         if (firstLoad) {
@@ -75,9 +80,27 @@ abstract class BaseStatsUseCase<DOMAIN_MODEL, UI_STATE>(
             updateUseCaseState(LOADING)
             val state = fetchRemoteData(forced)
             evaluateState(state)
+            canPrefetch = state is Data
         }
     }
 
+    /**
+     * Starts warming the cache with [prefetchAdjacentData] when the last [fetch] got remote data. Waits for one of
+     * the [permits] so it doesn't compete with block fetches, and is cancelled by the next [fetch] or by [clear].
+     */
+    fun startPrefetch(permits: Semaphore) {
+        if (canPrefetch) {
+            canPrefetch = false
+            prefetchJob = launch { permits.withPermit { prefetchAdjacentData() } }
+        }
+    }
+
+    private fun cancelPrefetch() {
+        canPrefetch = false
+        prefetchJob?.cancel()
+        prefetchJob = null
+    }
+
     suspend fun onParamsChange(param: UseCaseParam) {
         if (uiUpdateParams.any { it == param }) {
             onUiState()
@@ -135,6 +158,7 @@ abstract class BaseStatsUseCase<DOMAIN_MODEL, UI_STATE>(
      * Clears the LiveData value when we switch the current Site so we don't show the old data for a new site
      */
     fun clear() {
+        cancelPrefetch()
         domainModel = null
         domainState = LOADING
         uiState = defaultUiState
@@ -159,6 +183,12 @@ abstract class BaseStatsUseCase<DOMAIN_MODEL, UI_STATE>(
      */
     protected abstract suspend fun fetchRemoteData(forced: Boolean): State<DOMAIN_MODEL>
 
+    /**
+     * Warms the local cache with data the user is likely to request next (e.g. the neighbouring periods).
+     * Started by [startPrefetch] after a successful remote fetch and doesn't change the state of this use case.
+     */
+    protected open suspend fun prefetchAdjacentData() = Unit
+
     /**
      * Transforms given domain model and ui state into the UI model
      * @param domainModel domain model coming from FluxC
@@ -0,0 +1,17 @@
+package org.wordpress.android.ui.stats.refresh.lists.sections.granular
+
+import org.wordpress.android.fluxc.network.utils.StatsGranularity
+import java.util.Date
+
+/**
+ * Runs [fetch] for the periods right before and after the selected one, so swiping to them is served from the local
+ * cache. Only meant for granular blocks whose remote fetch stores the data without touching the state of the block.
+ */
+internal suspend fun fetchAdjacentPeriods(
+    selectedDateProvider: SelectedDateProvider,
+    statsGranularity: StatsGranularity,
+    fetch: suspend (Date) -> Unit
+) {
+    val selectedDate = selectedDateProvider.getSelectedDateState(statsGranularity)
+    listOfNotNull(selectedDate.getPreviousDate(), selectedDate.getNextDate()).forEach { date -> fetch(date) }
+}
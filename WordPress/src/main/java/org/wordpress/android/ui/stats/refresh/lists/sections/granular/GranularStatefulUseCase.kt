@@ -46,6 +46,17 @@ abstract class GranularStatefulUseCase<DOMAIN_MODEL, UI_STATE>(
         }
     }
 
+    // Enabled by the blocks that are safe to prefetch, see fetchAdjacentPeriods
+    protected open val prefetchAdjacentPeriods: Boolean = false
+
+    override suspend fun prefetchAdjacentData() {
+        if (prefetchAdjacentPeriods) {
+            fetchAdjacentPeriods(selectedDateProvider, statsGranularity) { date ->
+                fetchRemoteData(date, statsSiteProvider.siteModel, forced = false)
+            }
+        }
+    }
+
     override fun buildEmptyItem(): List<BlockListItem> {
         return buildLoadingItem() + listOf(BlockListItem.Empty(textResource = R.string.stats_no_data_for_period))
     }
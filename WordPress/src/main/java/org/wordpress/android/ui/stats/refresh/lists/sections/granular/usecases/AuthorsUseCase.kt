@@ -70,6 +70,8 @@ class AuthorsUseCase constructor(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_authors))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): AuthorsModel? {
         return authorsStore.getAuthors(
             site,
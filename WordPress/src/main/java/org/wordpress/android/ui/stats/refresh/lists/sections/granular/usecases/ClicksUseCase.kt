@@ -65,6 +65,8 @@ class ClicksUseCase constructor(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_clicks))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): ClicksModel? {
         return store.getClicks(
             site,
@@ -61,6 +61,8 @@ class CountryViewsUseCase constructor(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_countries))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): CountryViewsModel? {
         return store.getCountryViews(
             site,
@@ -66,6 +66,8 @@ class FileDownloadsUseCase constructor(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_file_downloads))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): FileDownloadsModel? {
         return store.getFileDownloads(
             site,
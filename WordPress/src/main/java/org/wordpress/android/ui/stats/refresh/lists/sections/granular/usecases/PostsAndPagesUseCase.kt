@@ -70,6 +70,8 @@ class PostsAndPagesUseCase
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_posts_and_pages))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): PostAndPageViewsModel? {
         return postsAndPageViewsStore.getPostAndPageViews(
             site,
@@ -84,6 +84,8 @@ class ReferrersUseCase(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_referrers))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): ReferrersModel? {
         return referrersStore.getReferrers(
             site,
@@ -59,6 +59,8 @@ class SearchTermsUseCase constructor(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_search_terms))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): SearchTermsModel? {
         return store.getSearchTerms(
             site,
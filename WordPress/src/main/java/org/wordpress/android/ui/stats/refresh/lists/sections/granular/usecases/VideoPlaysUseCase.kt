@@ -60,6 +60,8 @@ class VideoPlaysUseCase constructor(
 
     override fun buildLoadingItem(): List<BlockListItem> = listOf(Title(R.string.stats_videos))
 
+    override val prefetchAdjacentPeriods = true
+
     override suspend fun loadCachedData(selectedDate: Date, site: SiteModel): VideoPlaysModel? {
         return store.getVideoPlays(
             site,
@@ -0,0 +1,78 @@
+package org.wordpress.android.ui.stats.refresh.lists.widget
+
+import dagger.Lazy
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.launch
+import org.wordpress.android.fluxc.model.SiteModel
+import org.wordpress.android.fluxc.store.StatsStore.OnStatsFetched
+import org.wordpress.android.fluxc.utils.CurrentTimeProvider
+import org.wordpress.android.modules.APPLICATION_SCOPE
+import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetUpdater.StatsWidgetUpdaters
+import javax.inject.Inject
+import javax.inject.Named
+import javax.inject.Singleton
+
+/**
+ * Keeps the stats widget data fresh without blocking widget rendering on the network.
+ *
+ * Widgets render whatever is in the local cache and ask for a refresh here. Refreshes of the same [WidgetData]
+ * for the same site are shared by every widget showing it and are throttled to [MIN_REFRESH_INTERVAL_MILLIS].
+ * When a refresh stores new data, the widgets showing that site are asked to render again.
+ */
+@Singleton
+class StatsWidgetDataRefresher
+@Inject constructor(
+    @Named(APPLICATION_SCOPE) private val appScope: CoroutineScope,
+    private val statsWidgetUpdaters: Lazy<StatsWidgetUpdaters>,
+    private val currentTimeProvider: CurrentTimeProvider
+) {
+    private val runningRefreshes = mutableMapOf<RefreshKey, Job>()
+    private val lastRefreshes = mutableMapOf<RefreshKey, Long>()
+
+    fun refresh(site: SiteModel, widgetData: WidgetData, fetch: suspend () -> OnStatsFetched<*>) {
+        val key = RefreshKey(site.id, widgetData)
+        synchronized(this) {
+            val now = currentTimeProvider.currentDate().time
+            val lastRefresh = lastRefreshes[key]
+            if (runningRefreshes[key]?.isActive == true ||
+                (lastRefresh != null && now - lastRefresh < MIN_REFRESH_INTERVAL_MILLIS)
+            ) {
+                return
+            }
+            lastRefreshes[key] = now
+            runningRefreshes[key] = appScope.launch {
+                val result = fetch()
+                synchronized(this@StatsWidgetDataRefresher) {
+                    runningRefreshes.remove(key)
+                }
+                if (!result.isError && !result.cached) {
+                    updateWidgets(site, widgetData)
+                }
+            }
+        }
+    }
+
+    private fun updateWidgets(site: SiteModel, widgetData: WidgetData) {
+        val updaters = statsWidgetUpdaters.get()
+        when (widgetData) {
+            WidgetData.DAY_VIEWS -> updaters.updateViewsWidget(site.siteId)
+            WidgetData.WEEK_VIEWS -> updaters.updateWeekViewsWidget(site.siteId)
+            WidgetData.TODAY -> updaters.updateTodayWidget(site.siteId)
+            WidgetData.ALL_TIME -> updaters.updateAllTimeWidget(site.siteId)
+        }
+    }
+
+    enum class WidgetData {
+        DAY_VIEWS,
+        WEEK_VIEWS,
+        TODAY,
+        ALL_TIME
+    }
+
+    private data class RefreshKey(val localSiteId: Int, val widgetData: WidgetData)
+
+    companion object {
+        private const val MIN_REFRESH_INTERVAL_MILLIS = 60 * 1000L
+    }
+}
@@ -1,12 +1,13 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.alltime
 
 import android.content.Context
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.InsightsAllTimeModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.AllTimeInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.ALL_TIME
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.BlockItemUiModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.WidgetBlockListViewModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
@@ -22,7 +23,8 @@ class AllTimeWidgetBlockListViewModel
     private val resourceProvider: ResourceProvider,
     private val allTimeWidgetUpdater: AllTimeWidgetUpdater,
     private val appPrefsWrapper: AppPrefsWrapper,
-    private val statsUtils: StatsUtils
+    private val statsUtils: StatsUtils,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) : WidgetBlockListViewModel {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -39,7 +41,7 @@ class AllTimeWidgetBlockListViewModel
         siteId?.apply {
             val site = siteStore.getSiteByLocalId(this)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, ALL_TIME) {
                     allTimeStore.fetchAllTimeInsights(site)
                 }
                 allTimeStore.getAllTimeInsights(site)?.let { visitsAndViewsModel ->
@@ -1,12 +1,13 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.alltime
 
 import androidx.annotation.LayoutRes
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.InsightsAllTimeModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.AllTimeInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.ALL_TIME
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.ONE_THOUSAND
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -19,7 +20,8 @@ class AllTimeWidgetListViewModel
     private val allTimeStore: AllTimeInsightsStore,
     private val resourceProvider: ResourceProvider,
     private val appPrefsWrapper: AppPrefsWrapper,
-    private val statsUtils: StatsUtils
+    private val statsUtils: StatsUtils,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -36,7 +38,7 @@ class AllTimeWidgetListViewModel
         siteId?.apply {
             val site = siteStore.getSiteByLocalId(this)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, ALL_TIME) {
                     allTimeStore.fetchAllTimeInsights(site)
                 }
                 allTimeStore.getAllTimeInsights(site)?.let { visitsAndViewsModel ->
@@ -1,13 +1,14 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.today
 
 import android.content.Context
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.VisitsModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.TodayInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
 import org.wordpress.android.ui.stats.StatsTimeframe
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.TODAY
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.BlockItemUiModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.WidgetBlockListViewModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
@@ -25,7 +26,8 @@ class TodayWidgetBlockListViewModel
     private val todayWidgetUpdater: TodayWidgetUpdater,
     private val appPrefsWrapper: AppPrefsWrapper,
     private val statsUtils: StatsUtils,
-    private val trafficSubscribersTabFeatureConfig: StatsTrafficSubscribersTabsFeatureConfig
+    private val trafficSubscribersTabFeatureConfig: StatsTrafficSubscribersTabsFeatureConfig,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) : WidgetBlockListViewModel {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -46,7 +48,7 @@ class TodayWidgetBlockListViewModel
         siteId?.apply {
             val site = siteStore.getSiteByLocalId(this)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, TODAY) {
                     todayInsightsStore.fetchTodayInsights(site)
                 }
                 todayInsightsStore.getTodayInsights(site)?.let { visitsAndViewsModel ->
@@ -1,12 +1,13 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.today
 
 import androidx.annotation.LayoutRes
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.VisitsModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.TodayInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.TODAY
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.ONE_THOUSAND
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -19,7 +20,8 @@ class TodayWidgetListViewModel
     private val todayInsightsStore: TodayInsightsStore,
     private val resourceProvider: ResourceProvider,
     private val appPrefsWrapper: AppPrefsWrapper,
-    private val statsUtils: StatsUtils
+    private val statsUtils: StatsUtils,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -36,7 +38,7 @@ class TodayWidgetListViewModel
         siteId?.let { nonNullSiteId ->
             val site = siteStore.getSiteByLocalId(nonNullSiteId)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, TODAY) {
                     todayInsightsStore.fetchTodayInsights(site)
                 }
                 todayInsightsStore.getTodayInsights(site)?.let { visitsAndViewsModel ->
@@ -1,7 +1,6 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.views
 
 import androidx.annotation.LayoutRes
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.LimitMode
 import org.wordpress.android.fluxc.model.stats.LimitMode.Top
@@ -15,6 +14,8 @@ import org.wordpress.android.ui.stats.refresh.lists.sections.BlockListItem.Value
 import org.wordpress.android.ui.stats.refresh.lists.sections.BlockListItem.ValueItem.State.POSITIVE
 import org.wordpress.android.ui.stats.refresh.lists.sections.granular.usecases.OVERVIEW_ITEMS_TO_LOAD
 import org.wordpress.android.ui.stats.refresh.lists.sections.granular.usecases.OverviewMapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.DAY_VIEWS
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.MILLION
 import org.wordpress.android.ui.stats.refresh.utils.ONE_THOUSAND
@@ -31,7 +32,8 @@ class ViewsWidgetListViewModel
     private val overviewMapper: OverviewMapper,
     private val resourceProvider: ResourceProvider,
     private val statsDateFormatter: StatsDateFormatter,
-    private val appPrefsWrapper: AppPrefsWrapper
+    private val appPrefsWrapper: AppPrefsWrapper,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -50,7 +52,7 @@ class ViewsWidgetListViewModel
         siteId?.apply {
             val site = siteStore.getSiteByLocalId(this)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, DAY_VIEWS) {
                     visitsAndViewsStore.fetchVisits(site, DAYS, Top(OVERVIEW_ITEMS_TO_LOAD))
                 }
                 val visitsAndViewsModel = visitsAndViewsStore.getVisits(
@@ -1,7 +1,6 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.weeks
 
 import androidx.annotation.LayoutRes
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.LimitMode
 import org.wordpress.android.fluxc.model.stats.time.VisitsAndViewsModel
@@ -9,6 +8,8 @@ import org.wordpress.android.fluxc.network.utils.StatsGranularity.WEEKS
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.time.VisitsAndViewsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.WEEK_VIEWS
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.ONE_THOUSAND
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -20,7 +21,8 @@ class WeekViewsWidgetListViewModel @Inject constructor(
     private val visitsAndViewsStore: VisitsAndViewsStore,
     private val resourceProvider: ResourceProvider,
     private val appPrefsWrapper: AppPrefsWrapper,
-    private val statsUtils: StatsUtils
+    private val statsUtils: StatsUtils,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -38,7 +40,7 @@ class WeekViewsWidgetListViewModel @Inject constructor(
         siteId?.let { nonNullSiteId ->
             val site = siteStore.getSiteByLocalId(nonNullSiteId)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, WEEK_VIEWS) {
                     visitsAndViewsStore.fetchVisits(site, WEEKS, LimitMode.Top(1))
                 }
                 visitsAndViewsStore.getVisits(site, WEEKS, LimitMode.All)?.let { visitsAndViewsModel ->
@@ -1,7 +1,6 @@
 package org.wordpress.android.ui.stats.refresh.lists.widget.weeks
 
 import android.content.Context
-import kotlinx.coroutines.runBlocking
 import org.wordpress.android.R
 import org.wordpress.android.fluxc.model.stats.LimitMode
 import org.wordpress.android.fluxc.model.stats.time.VisitsAndViewsModel
@@ -9,6 +8,8 @@ import org.wordpress.android.fluxc.network.utils.StatsGranularity.WEEKS
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.time.VisitsAndViewsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.WEEK_VIEWS
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.BlockItemUiModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.WidgetBlockListViewModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
@@ -24,7 +25,8 @@ class WeekWidgetBlockListViewModel
     private val resourceProvider: ResourceProvider,
     private val weekViewsWidgetUpdater: WeekViewsWidgetUpdater,
     private val appPrefsWrapper: AppPrefsWrapper,
-    private val statsUtils: StatsUtils
+    private val statsUtils: StatsUtils,
+    private val statsWidgetDataRefresher: StatsWidgetDataRefresher
 ) : WidgetBlockListViewModel {
     private var siteId: Int? = null
     private var colorMode: Color = Color.LIGHT
@@ -46,7 +48,7 @@ class WeekWidgetBlockListViewModel
         siteId?.let { nonNullSiteId ->
             val site = siteStore.getSiteByLocalId(nonNullSiteId)
             if (site != null) {
-                runBlocking {
+                statsWidgetDataRefresher.refresh(site, WEEK_VIEWS) {
                     visitsAndViewsStore.fetchVisits(site, WEEKS, LimitMode.Top(1))
                 }
                 visitsAndViewsStore.getVisits(site, WEEKS, LimitMode.All)?.let { visitsAndViewsModel ->
@@ -0,0 +1,107 @@
+package org.wordpress.android.ui.suggestion.util
+
+import org.wordpress.android.ui.suggestion.Suggestion
+import java.util.Locale
+
+/**
+ * Finds the suggestions matching what the user typed after the "@" or "+" prefix, without going over every
+ * suggestion on each keystroke.
+ *
+ * A suggestion matches when its value starts with the query, or when its display value starts with it or has a word
+ * starting with it (case insensitive). Every value and every word start of every display value is lowercased once
+ * and kept in a sorted array, so the matches for a query are a contiguous range found with binary search. As long as
+ * the user keeps typing, the range of the new query is searched for inside the range of the previous one.
+ *
+ * Matches are ranked: exact value, then value prefix, then display value prefix, then a later word of the display
+ * value. Within a rank they keep the order of the source list.
+ */
+class SuggestionSearchIndex(val suggestions: List<Suggestion>) {
+    private val tokens: Array<Token>
+
+    private var lastQuery: String? = null
+    private var lastFrom = 0
+    private var lastTo = 0
+
+    init {
+        val allTokens = ArrayList<Token>(suggestions.size * 2)
+        suggestions.forEachIndexed { index, suggestion ->
+            allTokens.add(Token(suggestion.value.lowercase(Locale.ROOT), index, TOKEN_VALUE))
+            val displayValue = suggestion.displayValue.lowercase(Locale.getDefault())
+            allTokens.add(Token(displayValue, index, TOKEN_DISPLAY_VALUE))
+            var wordStart = displayValue.indexOf(' ')
+            while (wordStart >= 0) {
+                allTokens.add(Token(displayValue.substring(wordStart + 1), index, TOKEN_DISPLAY_WORD))
+                wordStart = displayValue.indexOf(' ', wordStart + 1)
+            }
+        }
+        tokens = allTokens.sortedBy { it.text }.toTypedArray()
+    }
+
+    /**
+     * Returns the ranked suggestions matching [constraint], or all of them if it's empty.
+     */
+    @Synchronized
+    fun filter(constraint: CharSequence?): List<Suggestion> {
+        if (constraint.isNullOrEmpty()) {
+            return suggestions
+        }
+        val query = constraint.toString().lowercase(Locale.getDefault())
+
+        // A longer query only matches tokens that also matched the shorter one
+        val previousQuery = lastQuery
+        val narrowing = previousQuery != null && query.startsWith(previousQuery)
+        val searchFrom = if (narrowing) lastFrom else 0
+        val searchTo = if (narrowing) lastTo else tokens.size
+
+        val from = lowerBound(query, searchFrom, searchTo)
+        val to = prefixEnd(query, from, searchTo)
+        lastQuery = query
+        lastFrom = from
+        lastTo = to
+
+        val bestRanks = HashMap<Int, Int>()
+        for (i in from until to) {
+            val token = tokens[i]
+            val rank = if (token.type == TOKEN_VALUE && token.text.length == query.length) RANK_EXACT else token.type
+            val currentRank = bestRanks[token.suggestionIndex]
+            if (currentRank == null || rank < currentRank) {
+                bestRanks[token.suggestionIndex] = rank
+            }
+        }
+        return bestRanks.entries
+            .sortedWith(compareBy({ it.value }, { it.key }))
+            .map { suggestions[it.key] }
+    }
+
+    // First token in [from, to) that is >= query
+    private fun lowerBound(query: String, from: Int, to: Int): Int {
+        var low = from
+        var high = to
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (tokens[mid].text < query) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    // Tokens starting with the query are contiguous from the lower bound, find where they end
+    private fun prefixEnd(query: String, from: Int, to: Int): Int {
+        var low = from
+        var high = to
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (tokens[mid].text.startsWith(query)) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private class Token(val text: String, val suggestionIndex: Int, val type: Int)
+
+    companion object {
+        // Token types double as their rank, lower ranks first
+        private const val RANK_EXACT = 0
+        private const val TOKEN_VALUE = 1
+        private const val TOKEN_DISPLAY_VALUE = 2
+        private const val TOKEN_DISPLAY_WORD = 3
+    }
+}
@@ -15,6 +15,7 @@ import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.sync.Mutex
 import kotlinx.coroutines.sync.withLock
+import kotlinx.coroutines.withContext
 import org.wordpress.android.analytics.AnalyticsTracker.Stat
 import org.wordpress.android.fluxc.Dispatcher
 import org.wordpress.android.fluxc.generated.UploadActionBuilder
@@ -105,8 +106,13 @@ class UploadStarter @Inject constructor(
     }
 
     fun queueUploadFromAllSites() = launch {
-        val sites = siteStore.sites
         try {
+            // One indexed query tells which sites have anything to upload, so the other sites' posts aren't loaded
+            val localSiteIds = withContext(ioDispatcher) { postStore.getLocalSiteIdsWithLocalChanges() }
+            if (localSiteIds.isEmpty()) {
+                return@launch
+            }
+            val sites = siteStore.sites.filter { it.id in localSiteIds }
             checkConnectionAndUpload(sites = sites)
         } catch (e: Exception) {
             AppLog.e(T.MEDIA, e)
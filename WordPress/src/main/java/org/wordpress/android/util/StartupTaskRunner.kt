@@ -0,0 +1,146 @@
+package org.wordpress.android.util
+
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import android.os.Trace
+import org.wordpress.android.util.AppLog.T
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Runs the app startup initializers as a small dependency graph.
+ *
+ * [StartupTask.Mode.MAIN] tasks run synchronously on the calling thread, in the order they are declared, and may
+ * only depend on earlier main tasks. [StartupTask.Mode.BACKGROUND] tasks start on [backgroundExecutor] as soon as
+ * their dependencies are done. [StartupTask.Mode.DEFERRED] tasks wait until the main thread goes idle, which is
+ * after the first frame has been drawn.
+ *
+ * Every task is timed, logged and wrapped in a trace section named `startup:<task name>`, so a cold start
+ * regression can be attributed to a single initializer.
+ */
+class StartupTaskRunner(
+    private val backgroundExecutor: Executor,
+    private val deferredExecutor: Executor = MainThreadIdleExecutor(),
+    private val clock: () -> Long = SystemClock::elapsedRealtime
+) {
+    fun run(tasks: List<StartupTask>) {
+        val tasksByName = tasks.associateBy { it.name }
+        require(tasksByName.size == tasks.size) { "Startup task names must be unique" }
+        validate(tasks, tasksByName)
+
+        val pendingDependencies = tasks.associate { it.name to AtomicInteger(it.dependsOn.size) }
+        val dependents = tasks.associate { task ->
+            task.name to tasks.filter { task.name in it.dependsOn }
+        }
+
+        fun onTaskCompleted(task: StartupTask) {
+            dependents.getValue(task.name).forEach { dependent ->
+                val remaining = pendingDependencies.getValue(dependent.name).decrementAndGet()
+                if (remaining == 0 && dependent.mode != StartupTask.Mode.MAIN) {
+                    schedule(dependent) { onTaskCompleted(it) }
+                }
+            }
+        }
+
+        // Off-main tasks without dependencies can start right away, in parallel with the main tasks
+        tasks.filter { it.mode != StartupTask.Mode.MAIN && it.dependsOn.isEmpty() }
+            .forEach { schedule(it) { completed -> onTaskCompleted(completed) } }
+
+        tasks.filter { it.mode == StartupTask.Mode.MAIN }.forEach { task ->
+            execute(task)
+            onTaskCompleted(task)
+        }
+    }
+
+    private fun validate(tasks: List<StartupTask>, tasksByName: Map<String, StartupTask>) {
+        val seenMainTasks = mutableSetOf<String>()
+        tasks.forEach { task ->
+            task.dependsOn.forEach { dependency ->
+                val dependencyTask = requireNotNull(tasksByName[dependency]) {
+                    "Startup task ${task.name} depends on unknown task $dependency"
+                }
+                if (task.mode == StartupTask.Mode.MAIN) {
+                    require(dependencyTask.mode == StartupTask.Mode.MAIN && dependency in seenMainTasks) {
+                        "Main startup task ${task.name} can only depend on main tasks declared before it"
+                    }
+                }
+            }
+            if (task.mode == StartupTask.Mode.MAIN) {
+                seenMainTasks.add(task.name)
+            }
+        }
+        checkForCycles(tasks, tasksByName)
+    }
+
+    private fun checkForCycles(tasks: List<StartupTask>, tasksByName: Map<String, StartupTask>) {
+        val visited = mutableSetOf<String>()
+        val inProgress = mutableSetOf<String>()
+
+        fun visit(task: StartupTask) {
+            if (task.name in visited) return
+            require(inProgress.add(task.name)) { "Startup task ${task.name} is part of a dependency cycle" }
+            task.dependsOn.forEach { visit(tasksByName.getValue(it)) }
+            inProgress.remove(task.name)
+            visited.add(task.name)
+        }
+
+        tasks.forEach { visit(it) }
+    }
+
+    private fun schedule(task: StartupTask, onCompleted: (StartupTask) -> Unit) {
+        val executor = when (task.mode) {
+            StartupTask.Mode.BACKGROUND -> backgroundExecutor
+            StartupTask.Mode.DEFERRED -> deferredExecutor
+            StartupTask.Mode.MAIN -> error("Main startup tasks are not scheduled")
+        }
+        executor.execute {
+            execute(task)
+            onCompleted(task)
+        }
+    }
+
+    private fun execute(task: StartupTask) {
+        val start = clock()
+        Trace.beginSection(TRACE_PREFIX + task.name)
+        try {
+            task.block()
+        } finally {
+            Trace.endSection()
+            AppLog.i(T.UTILS, "Startup task ${task.name} (${task.mode}) took ${clock() - start} ms")
+        }
+    }
+
+    /**
+     * Runs work on the main thread once its message queue is idle, i.e. after pending frames have been drawn.
+     */
+    private class MainThreadIdleExecutor : Executor {
+        private val mainHandler = Handler(Looper.getMainLooper())
+
+        override fun execute(command: Runnable) {
+            mainHandler.post {
+                Looper.myQueue().addIdleHandler {
+                    command.run()
+                    false
+                }
+            }
+        }
+    }
+
+    companion object {
+        private const val TRACE_PREFIX = "startup:"
+    }
+}
+
+class StartupTask(
+    val name: String,
+    val mode: Mode = Mode.MAIN,
+    val dependsOn: List<String> = emptyList(),
+    val block: () -> Unit
+) {
+    enum class Mode {
+        MAIN,
+        BACKGROUND,
+        DEFERRED
+    }
+}
@@ -6,6 +6,7 @@ import org.wordpress.android.util.analytics.AnalyticsTrackerWrapper
 import org.wordpress.android.util.config.AppConfig.FeatureState.BuildConfigValue
 import org.wordpress.android.util.config.AppConfig.FeatureState.ManuallyOverriden
 import org.wordpress.android.util.config.ExperimentConfig.Variant
+import java.util.concurrent.ConcurrentHashMap
 import javax.inject.Inject
 import javax.inject.Singleton
 
@@ -21,7 +22,7 @@ class AppConfig
      * We need to keep the value of an already loaded feature flag to make sure the value is not changed
      * while using the app. We should only reload the flags when the application is created.
      */
-    private val experimentValues = mutableMapOf<String, String>()
+    private val experimentValues = ConcurrentHashMap<String, String>()
     private val remoteFeatureConfigCheck = RemoteFeatureConfigCheck(this)
 
     /**
@@ -69,10 +70,10 @@ class AppConfig
                 ManuallyOverriden(manualFeatureConfig.isManuallyEnabled(feature))
             }
             feature.remoteField == null -> {
-                BuildConfigValue(feature.buildConfigValue)
+                buildConfigState(feature.buildConfigValue)
             }
             feature.buildConfigValue -> {
-                BuildConfigValue(feature.buildConfigValue)
+                BUILD_CONFIG_ENABLED
             }
             else -> {
                 featureFlagConfig.getFeatureState(feature.remoteField, feature.buildConfigValue)
@@ -80,6 +81,8 @@ class AppConfig
         }
     }
 
+    private fun buildConfigState(isEnabled: Boolean) = if (isEnabled) BUILD_CONFIG_ENABLED else BUILD_CONFIG_DISABLED
+
     /**
      * Get the currently selected variant for a given experiment. This function returns null if there is no variant
      * for the current user (and the user is in the control group).
@@ -104,6 +107,12 @@ class AppConfig
         featureFlagConfig.clear()
     }
 
+    companion object {
+        // States are immutable, share them instead of allocating one per check
+        private val BUILD_CONFIG_ENABLED = BuildConfigValue(true)
+        private val BUILD_CONFIG_DISABLED = BuildConfigValue(false)
+    }
+
     sealed class FeatureState(open val isEnabled: Boolean, val name: String) {
         data class ManuallyOverriden(
             override val isEnabled: Boolean
@@ -16,6 +16,7 @@ import org.wordpress.android.util.AppLog
 import org.wordpress.android.util.AppLog.T.UTILS
 import org.wordpress.android.util.config.AppConfig.FeatureState
 import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
 import javax.inject.Inject
 import javax.inject.Named
 import javax.inject.Singleton
@@ -36,6 +37,20 @@ class FeatureFlagConfig
     private val preferences by lazy { PreferenceUtils.getFluxCPreferences(context) }
 
     var flags: List<FeatureFlag> = arrayListOf()
+        set(value) {
+            field = value
+            remoteStates = value.associate { it.key to FeatureState.RemoteValue(it.value) }
+        }
+
+    /**
+     * The state of every stored flag by key, built once per reload and swapped as a whole, so checking a flag is a
+     * single hash lookup that neither locks nor allocates.
+     */
+    @Volatile
+    private var remoteStates: Map<String, FeatureState.RemoteValue> = emptyMap()
+
+    // Fields whose default is being stored, so repeated checks of a missing flag don't each trigger a write
+    private val pendingDefaults: MutableSet<String> = ConcurrentHashMap.newKeySet()
 
     fun init(appScope: CoroutineScope) {
         appScope.launch {
@@ -100,38 +115,35 @@ class FeatureFlagConfig
     }
 
     fun isEnabled(field: String): Boolean {
-        return flags.find { it.key == field }?.value ?: false
+        return remoteStates[field]?.isEnabled ?: false
     }
 
     fun getString(field: String): String {
-        return flags.find { it.key == field }?.key ?: ""
+        return if (remoteStates.containsKey(field)) field else ""
     }
 
     fun getFeatureState(remoteField: String, buildConfigValue: Boolean): FeatureState {
-        val remoteFeatureFlag = flags.find { it.key == remoteField }
-        return if (remoteFeatureFlag == null) {
-            val defaultValue = getRemoteConfigDefaultValue(remoteField)
-            if (defaultValue != null) {
-                appScope.launch {
-                    featureFlagStore.insertFeatureFlagValue(
-                        remoteField,
-                        defaultValue
-                    )
-                    flags = featureFlagStore.getFeatureFlags()
-                }
-                FeatureState.DefaultValue(defaultValue)
-            } else {
-                appScope.launch {
-                    featureFlagStore.insertFeatureFlagValue(
-                        remoteField,
-                        buildConfigValue
-                    )
-                    flags = featureFlagStore.getFeatureFlags()
-                }
-                FeatureState.BuildConfigValue(buildConfigValue)
-            }
+        remoteStates[remoteField]?.let { return it }
+        val defaultValue = getRemoteConfigDefaultValue(remoteField)
+        storeMissingFlag(remoteField, defaultValue ?: buildConfigValue)
+        return if (defaultValue != null) {
+            FeatureState.DefaultValue(defaultValue)
         } else {
-            FeatureState.RemoteValue(remoteFeatureFlag.value)
+            FeatureState.BuildConfigValue(buildConfigValue)
+        }
+    }
+
+    private fun storeMissingFlag(remoteField: String, value: Boolean) {
+        if (!pendingDefaults.add(remoteField)) {
+            return
+        }
+        appScope.launch {
+            try {
+                featureFlagStore.insertFeatureFlagValue(remoteField, value)
+                flags = featureFlagStore.getFeatureFlags()
+            } finally {
+                pendingDefaults.remove(remoteField)
+            }
         }
     }
 
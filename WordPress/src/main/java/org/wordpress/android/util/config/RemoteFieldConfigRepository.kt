@@ -24,6 +24,14 @@ class RemoteFieldConfigRepository
     @Named(APPLICATION_SCOPE) private val appScope: CoroutineScope
 ) {
     var remoteFields: List<RemoteConfig> = arrayListOf()
+        set(value) {
+            field = value
+            valuesByKey = value.associate { it.key to it.value }
+        }
+
+    // Swapped as a whole whenever the fields are reloaded, so lookups don't scan the list or need a lock
+    @Volatile
+    private var valuesByKey: Map<String, String> = emptyMap()
 
     fun init() {
         appScope.launch {
@@ -83,7 +91,7 @@ class RemoteFieldConfigRepository
 
     fun getValue(field: String): String {
         // search the remote fields (from local database) then in-memory defaults, and return "" as fallback
-        return remoteFields.find { it.key == field }?.value
+        return valuesByKey[field]
             ?: RemoteFieldConfigDefaults.remoteFieldConfigDefaults[field]?.toString()
             ?: ""
     }
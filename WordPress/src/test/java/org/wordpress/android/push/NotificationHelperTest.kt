@@ -1,10 +1,23 @@
 package org.wordpress.android.push
 
+import android.app.Notification
+import android.content.Context
+import android.content.SharedPreferences
+import android.graphics.Bitmap
 import android.os.Bundle
+import androidx.core.app.NotificationCompat
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import org.apache.commons.text.StringEscapeUtils
 import org.junit.Test
+import org.mockito.Mockito
+import org.mockito.kotlin.any
+import org.mockito.kotlin.anyOrNull
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.spy
+import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.wordpress.android.BaseUnitTest
 import org.wordpress.android.models.Note
@@ -15,9 +28,12 @@ import org.wordpress.android.push.GCMMessageService.PUSH_ARG_NOTE_ID
 import org.wordpress.android.ui.notifications.NotificationManagerWrapper
 import org.wordpress.android.ui.notifications.SystemNotificationsTracker
 import org.wordpress.android.ui.notifications.utils.NotificationsUtilsWrapper
+import java.util.concurrent.atomic.AtomicBoolean
 import kotlin.test.assertEquals
 
 private const val PUSH_TYPE_NOT_A_COMMENT = "NotAComment"
+private const val NOTE_ID = "1"
+private const val PUSH_ID = 10000
 
 @ExperimentalCoroutinesApi
 class NotificationHelperTest : BaseUnitTest() {
@@ -25,11 +41,13 @@ class NotificationHelperTest : BaseUnitTest() {
     private val gcmMessageHandler: GCMMessageHandler = mock()
     private val notificationsUtilsWrapper = mock<NotificationsUtilsWrapper>()
     private val notificationManagerWrapper = mock<NotificationManagerWrapper>()
+    private val notificationIconCache = mock<NotificationIconCache>()
     private val notificationHelper = GCMMessageHandler.NotificationHelper(
         gcmMessageHandler,
         systemNotificationsTracker,
         notificationsUtilsWrapper,
-        notificationManagerWrapper
+        notificationManagerWrapper,
+        notificationIconCache
     )
 
     @Test
@@ -117,4 +135,59 @@ class NotificationHelperTest : BaseUnitTest() {
         val message = notificationHelper.getNotificationMessage(mockedBundle, PUSH_TYPE_COMMENT)
         assertEquals("", message)
     }
+
+    @Test
+    fun `WHEN a late icon arrives before the PN is shown THEN it is set on the builder that will be shown`() {
+        val builder = mock<NotificationCompat.Builder>()
+        val icon = mock<Bitmap>()
+
+        notificationHelper.onLateLargeIcon(
+            mock(), icon, builder, AtomicBoolean(false), mock(), PUSH_TYPE_NOT_A_COMMENT, NOTE_ID, PUSH_ID, "", ""
+        )
+
+        verify(builder).setLargeIcon(icon)
+        verify(notificationManagerWrapper, never()).notify(any(), any())
+    }
+
+    @Test
+    fun `WHEN a late icon arrives after the PN is shown THEN the PN is updated without being tracked again`() {
+        val data = mock<Bundle>()
+        val iconBuilder = mock<NotificationCompat.Builder>(defaultAnswer = Mockito.RETURNS_SELF)
+        val notification = mock<Notification>()
+        whenever(iconBuilder.build()).thenReturn(notification)
+        whenever(gcmMessageHandler.isActiveNotification(PUSH_ID, data)).thenReturn(true)
+        val helper = spy(notificationHelper)
+        doReturn(iconBuilder).whenever(helper).getNotificationBuilder(any(), anyOrNull(), anyOrNull())
+
+        helper.onLateLargeIcon(
+            mockContextWithPrefs(), mock(), mock(), AtomicBoolean(true), data, PUSH_TYPE_NOT_A_COMMENT, NOTE_ID,
+            PUSH_ID, "", ""
+        )
+
+        verify(notificationManagerWrapper).notify(PUSH_ID, notification)
+        verify(systemNotificationsTracker, never()).trackShownNotification(any())
+    }
+
+    @Test
+    fun `WHEN a late icon arrives after the PN was dismissed THEN nothing is shown`() {
+        val data = mock<Bundle>()
+        whenever(gcmMessageHandler.isActiveNotification(PUSH_ID, data)).thenReturn(false)
+
+        notificationHelper.onLateLargeIcon(
+            mock(), mock(), mock(), AtomicBoolean(true), data, PUSH_TYPE_NOT_A_COMMENT, NOTE_ID, PUSH_ID, "", ""
+        )
+
+        verify(notificationManagerWrapper, never()).notify(any(), any())
+        verify(systemNotificationsTracker, never()).trackShownNotification(any())
+    }
+
+    private fun mockContextWithPrefs(): Context {
+        // Notifications are enabled unless a pref says otherwise
+        val prefs = mock<SharedPreferences> {
+            on { getBoolean(anyOrNull(), any()) } doAnswer { it.getArgument(1) }
+        }
+        return mock {
+            on { getSharedPreferences(anyOrNull(), any()) } doReturn prefs
+        }
+    }
 }
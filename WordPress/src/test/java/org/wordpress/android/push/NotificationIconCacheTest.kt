@@ -0,0 +1,144 @@
+package org.wordpress.android.push
+
+import android.content.Context
+import android.graphics.Bitmap
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.whenever
+import java.io.File
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+private const val ICON_URL = "https://example.com/avatar.png"
+private const val ICON_SIZE = 64
+private const val MAX_DISK_ENTRIES = 100
+
+class NotificationIconCacheTest {
+    @Rule
+    @JvmField
+    val temporaryFolder = TemporaryFolder()
+
+    private val context = mock<Context>()
+    private val icon = mock<Bitmap>()
+    private val downloads = AtomicInteger()
+    private val executor: ExecutorService = Executors.newFixedThreadPool(2)
+    private lateinit var cacheDir: File
+
+    @Before
+    fun setUp() {
+        cacheDir = temporaryFolder.newFolder()
+        whenever(context.applicationContext).thenReturn(context)
+        whenever(context.cacheDir).thenReturn(cacheDir)
+    }
+
+    @After
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    fun `an icon downloaded within the deadline is returned`() {
+        val cache = createCache { icon }
+
+        val result = cache.getIcon(context, ICON_URL, ICON_SIZE, true, TimeUnit.SECONDS.toMillis(5), null)
+
+        assertThat(result).isSameAs(icon)
+        assertThat(downloads.get()).isEqualTo(1)
+    }
+
+    @Test
+    fun `a late icon returns null and is handed to every waiting caller after a single download`() {
+        val downloadStarted = CountDownLatch(1)
+        val releaseDownload = CountDownLatch(1)
+        val cache = createCache {
+            downloadStarted.countDown()
+            releaseDownload.await()
+            icon
+        }
+        val lateIcons = CopyOnWriteArrayList<Bitmap>()
+        val allLateIconsDelivered = CountDownLatch(2)
+        val listener = NotificationIconCache.OnIconLoadedListener {
+            lateIcons.add(it)
+            allLateIconsDelivered.countDown()
+        }
+
+        val first = cache.getIcon(context, ICON_URL, ICON_SIZE, true, SHORT_DEADLINE_MILLIS, listener)
+        assertThat(downloadStarted.await(5, TimeUnit.SECONDS)).isTrue
+        val second = cache.getIcon(context, ICON_URL, ICON_SIZE, true, SHORT_DEADLINE_MILLIS, listener)
+        releaseDownload.countDown()
+
+        assertThat(first).isNull()
+        assertThat(second).isNull()
+        assertThat(allLateIconsDelivered.await(5, TimeUnit.SECONDS)).isTrue
+        assertThat(lateIcons).containsExactly(icon, icon)
+        assertThat(downloads.get()).isEqualTo(1)
+    }
+
+    @Test
+    fun `icons of different sizes or shapes are downloaded separately`() {
+        val cache = createCache { icon }
+
+        cache.getIcon(context, ICON_URL, ICON_SIZE, true, TimeUnit.SECONDS.toMillis(5), null)
+        cache.getIcon(context, ICON_URL, ICON_SIZE * 2, true, TimeUnit.SECONDS.toMillis(5), null)
+        cache.getIcon(context, ICON_URL, ICON_SIZE, false, TimeUnit.SECONDS.toMillis(5), null)
+
+        assertThat(downloads.get()).isEqualTo(3)
+        assertThat(diskCacheDir().listFiles()).hasSize(3)
+    }
+
+    @Test
+    fun `a failed download returns null and doesn't call back`() {
+        val cache = createCache { null }
+        val lateIcons = CopyOnWriteArrayList<Bitmap>()
+
+        val listener = NotificationIconCache.OnIconLoadedListener { lateIcons.add(it) }
+
+        val result = cache.getIcon(context, ICON_URL, ICON_SIZE, true, TimeUnit.SECONDS.toMillis(5), listener)
+
+        assertThat(result).isNull()
+        assertThat(lateIcons).isEmpty()
+        assertThat(diskCacheDir().exists()).isFalse
+    }
+
+    @Test
+    fun `the disk cache keeps only the most recently used icons`() {
+        val dir = diskCacheDir().apply { mkdirs() }
+        val staleFiles = (0 until MAX_DISK_ENTRIES).map { index ->
+            File(dir, "stale$index").apply {
+                createNewFile()
+                setLastModified(TimeUnit.DAYS.toMillis(1))
+            }
+        }
+        val cache = createCache { icon }
+
+        cache.getIcon(context, ICON_URL, ICON_SIZE, true, TimeUnit.SECONDS.toMillis(5), null)
+
+        val files = dir.listFiles().orEmpty()
+        assertThat(files).hasSize(MAX_DISK_ENTRIES)
+        assertThat(staleFiles.count { it.exists() }).isEqualTo(MAX_DISK_ENTRIES - 1)
+        assertThat(files.filter { it.name !in staleFiles.map { stale -> stale.name } }).hasSize(1)
+    }
+
+    private fun createCache(download: () -> Bitmap?) = NotificationIconCache(
+        { _, _ ->
+            downloads.incrementAndGet()
+            download()
+        },
+        executor
+    )
+
+    private fun diskCacheDir() = File(cacheDir, "notification_icons")
+
+    companion object {
+        private const val SHORT_DEADLINE_MILLIS = 10L
+    }
+}
@@ -22,6 +22,7 @@ import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestSta
 import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestState.Failure
 import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestState.Failure.RemoteRequestFailure
 import org.wordpress.android.ui.jetpack.backup.download.BackupDownloadRequestState.Progress
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer
 import org.wordpress.android.util.NetworkUtilsWrapper
 import java.util.Calendar
 import java.util.Date
@@ -44,6 +45,7 @@ class GetBackupDownloadStatusUseCaseTest : BaseUnitTest() {
         useCase = GetBackupDownloadStatusUseCase(
             networkUtilsWrapper,
             activityLogStore,
+            JobStatusRequestCoalescer(),
             testDispatcher()
         )
         whenever(networkUtilsWrapper.isNetworkAvailable()).thenReturn(true)
@@ -0,0 +1,97 @@
+package org.wordpress.android.ui.jetpack.common
+
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.async
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.advanceUntilIdle
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.BaseUnitTest
+import org.wordpress.android.fluxc.model.SiteModel
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer.JobType
+
+@ExperimentalCoroutinesApi
+class JobStatusPollingTest : BaseUnitTest() {
+    private val site = SiteModel().apply { id = 1 }
+
+    @Test
+    fun `given progress moves, when next delay is requested, then the minimum delay is used`() {
+        val backoff = JobStatusPollingBackoff()
+
+        val delays = listOf(10, 20, 30).map { backoff.nextDelayMillis(it) }
+
+        assertThat(delays).containsOnly(MIN_POLL_DELAY_MILLIS)
+    }
+
+    @Test
+    fun `given progress stalls, when next delay is requested, then the delay backs off up to the maximum`() {
+        val backoff = JobStatusPollingBackoff()
+
+        val delays = listOf(10, 10, 10, 10, 10, 10, 10).map { backoff.nextDelayMillis(it) }
+
+        assertThat(delays).containsExactly(1000L, 2000L, 4000L, 8000L, 16000L, 16000L, 16000L)
+    }
+
+    @Test
+    fun `given a stalled job, when progress moves again, then the delay is reset`() {
+        val backoff = JobStatusPollingBackoff()
+        listOf(10, 10, 10).forEach { backoff.nextDelayMillis(it) }
+
+        assertThat(backoff.nextDelayMillis(11)).isEqualTo(MIN_POLL_DELAY_MILLIS)
+    }
+
+    @Test
+    fun `given a request is in flight, when the same job is requested, then the request is shared`() = test {
+        val coalescer = JobStatusRequestCoalescer()
+        var requests = 0
+        val request: suspend () -> Int = {
+            requests++
+            delay(REQUEST_DURATION_MILLIS)
+            requests
+        }
+
+        val first = async { coalescer.coalesce(JobType.SCAN_STATE, site, request) }
+        val second = async { coalescer.coalesce(JobType.SCAN_STATE, site, request) }
+
+        assertThat(listOf(first.await(), second.await())).containsExactly(1, 1)
+        assertThat(requests).isEqualTo(1)
+    }
+
+    @Test
+    fun `given a request is in flight, when another job is requested, then it is not shared`() = test {
+        val coalescer = JobStatusRequestCoalescer()
+        var requests = 0
+        val request: suspend () -> Unit = {
+            requests++
+            delay(REQUEST_DURATION_MILLIS)
+        }
+
+        launch { coalescer.coalesce(JobType.SCAN_STATE, site, request) }
+        launch { coalescer.coalesce(JobType.REWIND_STATE, site, request) }
+        advanceUntilIdle()
+
+        assertThat(requests).isEqualTo(2)
+    }
+
+    @Test
+    fun `given the owner of a request is cancelled, when another caller waits, then it runs the request`() = test {
+        val coalescer = JobStatusRequestCoalescer()
+        var requests = 0
+        val request: suspend () -> Int = {
+            requests++
+            delay(REQUEST_DURATION_MILLIS)
+            requests
+        }
+
+        val owner = launch { coalescer.coalesce(JobType.SCAN_STATE, site, request) }
+        val waiter = async { coalescer.coalesce(JobType.SCAN_STATE, site, request) }
+        owner.cancel()
+
+        assertThat(waiter.await()).isEqualTo(2)
+    }
+
+    companion object {
+        private const val REQUEST_DURATION_MILLIS = 500L
+    }
+}
@@ -22,6 +22,7 @@ import org.wordpress.android.fluxc.store.ActivityLogStore
 import org.wordpress.android.fluxc.store.ActivityLogStore.OnRewindStatusFetched
 import org.wordpress.android.fluxc.store.ActivityLogStore.RewindStatusError
 import org.wordpress.android.fluxc.store.ActivityLogStore.RewindStatusErrorType.GENERIC_ERROR
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer
 import org.wordpress.android.ui.jetpack.restore.RestoreRequestState
 import org.wordpress.android.ui.jetpack.restore.RestoreRequestState.AwaitingCredentials
 import org.wordpress.android.ui.jetpack.restore.RestoreRequestState.Complete
@@ -57,6 +58,7 @@ class GetRestoreStatusUseCaseTest : BaseUnitTest() {
         useCase = GetRestoreStatusUseCase(
             networkUtilsWrapper,
             activityLogStore,
+            JobStatusRequestCoalescer(),
             testDispatcher()
         )
         whenever(networkUtilsWrapper.isNetworkAvailable()).thenReturn(true)
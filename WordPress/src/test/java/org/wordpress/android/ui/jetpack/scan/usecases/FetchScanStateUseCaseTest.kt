@@ -20,6 +20,7 @@ import org.wordpress.android.fluxc.store.ScanStore
 import org.wordpress.android.fluxc.store.ScanStore.OnScanStateFetched
 import org.wordpress.android.fluxc.store.ScanStore.ScanStateError
 import org.wordpress.android.fluxc.store.ScanStore.ScanStateErrorType
+import org.wordpress.android.ui.jetpack.common.JobStatusRequestCoalescer
 import org.wordpress.android.ui.jetpack.scan.usecases.FetchScanStateUseCase.FetchScanState.Failure
 import org.wordpress.android.ui.jetpack.scan.usecases.FetchScanStateUseCase.FetchScanState.Success
 import org.wordpress.android.util.NetworkUtilsWrapper
@@ -46,6 +47,7 @@ class FetchScanStateUseCaseTest : BaseUnitTest() {
         useCase = FetchScanStateUseCase(
             networkUtilsWrapper,
             scanStore,
+            JobStatusRequestCoalescer(),
             testDispatcher()
         )
         whenever(networkUtilsWrapper.isNetworkAvailable()).thenReturn(true)
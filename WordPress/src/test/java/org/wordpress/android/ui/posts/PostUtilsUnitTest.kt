@@ -356,6 +356,15 @@ https://videopress.com/v/AbCDe?resizeToParent=true&amp;cover=true&amp;preloadCon
         assertThat(PostUtils.isMediaInGutenbergPostBody(postContent3, imgId)).isTrue()
     }
 
+    @Test
+    fun `getMediaIdsInGutenbergPostBody returns the ids of all the media blocks`() {
+        val postContent = "<!-- wp:image {\"id\":1,\"sizeSlug\":\"large\"} --> ...... <!-- /wp:image -->" +
+                "<!-- wp:media-text {\"mediaId\":2} --> ...... <!-- /wp:media-text -->" +
+                "<!-- wp:gallery {\"ids\":[3,4]} --> ...... <!-- /wp:gallery -->" +
+                "<!-- wp:paragraph {\"id\":5} --> ...... <!-- /wp:paragraph -->"
+        assertThat(PostUtils.getMediaIdsInGutenbergPostBody(postContent)).containsExactlyInAnyOrder("1", "2", "3", "4")
+    }
+
     private companion object Fixtures {
         fun invokePreparePostForPublish(
             hasCapabilityPublishPosts: Boolean = true,
@@ -139,11 +139,8 @@ class CleanUpMediaToPostAssociationUseCaseTest(private val containsGutenbergBloc
             containsGutenbergBlocks: Boolean
         ) =
             mock<PostUtilsWrapper> {
-                on { isMediaInGutenbergPostBody(anyOrNull(), anyOrNull()) }
-                    .doAnswer { invocation ->
-                        mediaInPost.map { it.id }
-                            .contains((invocation.arguments[1] as String).toInt())
-                    }
+                on { getMediaIdsInGutenbergPostBody(anyOrNull()) }
+                    .doReturn(mediaInPost.map { it.id.toString() }.toSet())
                 on { contentContainsGutenbergBlocks(anyOrNull()) }.doReturn(
                     containsGutenbergBlocks
                 )
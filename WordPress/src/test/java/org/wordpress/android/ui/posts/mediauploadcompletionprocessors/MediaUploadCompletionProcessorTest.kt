@@ -113,4 +113,15 @@ class MediaUploadCompletionProcessorTest {
         val processedContent = processor.processContent(TestContent.oldPostWithMixedGalleriesRefactored)
         Assertions.assertThat(processedContent).isEqualTo(TestContent.newPostWithMixedGalleriesRefactored)
     }
+
+    @Test
+    fun `processPost handles posts with many media blocks`() {
+        val otherBlocks = TestContent.newImageBlock.repeat(MANY_BLOCKS)
+        val processedContent = processor.processContent(otherBlocks + TestContent.oldImageBlock)
+        Assertions.assertThat(processedContent).isEqualTo(otherBlocks + TestContent.newImageBlock)
+    }
+
+    companion object {
+        private const val MANY_BLOCKS = 20_000
+    }
 }
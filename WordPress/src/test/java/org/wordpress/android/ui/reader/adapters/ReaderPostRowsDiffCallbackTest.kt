@@ -0,0 +1,173 @@
+package org.wordpress.android.ui.reader.adapters
+
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.ListUpdateCallback
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.models.ReaderPost
+
+class ReaderPostRowsDiffCallbackTest {
+    private val postA = createPost(1)
+    private val postB = createPost(2)
+    private val postC = createPost(3)
+
+    @Test
+    fun `an inserted post is dispatched as an insert`() {
+        val updates = dispatchDiff(listOf(postA, postB), listOf(postA, postC, postB))
+
+        assertThat(updates).containsExactly("inserted 1 1")
+    }
+
+    @Test
+    fun `a removed post is dispatched as a removal`() {
+        val updates = dispatchDiff(listOf(postA, postB, postC), listOf(postA, postC))
+
+        assertThat(updates).containsExactly("removed 1 1")
+    }
+
+    @Test
+    fun `a post moved to the top is dispatched as a move`() {
+        val updates = dispatchDiff(listOf(postA, postB, postC), listOf(postC, postA, postB))
+
+        assertThat(updates).containsExactly("moved 2 0")
+    }
+
+    @Test
+    fun `reloaded posts without changes dispatch nothing`() {
+        val updates = dispatchDiff(listOf(postA, postB), listOf(createPost(1), createPost(2)))
+
+        assertThat(updates).isEmpty()
+    }
+
+    @Test
+    fun `a bookmarked post is dispatched as a change`() {
+        val bookmarkedPostB = createPost(2).apply { isBookmarked = true }
+
+        val updates = dispatchDiff(listOf(postA, postB, postC), listOf(postA, bookmarkedPostB, postC))
+
+        assertThat(updates).containsExactly("changed 1 1")
+    }
+
+    @Test
+    fun `a liked post is dispatched as a change`() {
+        val likedPostA = createPost(1).apply {
+            isLikedByCurrentUser = true
+            numLikes = 1
+        }
+
+        val updates = dispatchDiff(listOf(postA, postB), listOf(likedPostA, postB))
+
+        assertThat(updates).containsExactly("changed 0 1")
+    }
+
+    @Test
+    fun `posts with the same id from different feeds are different rows`() {
+        val externalPostA = createPost(1).apply {
+            isExternal = true
+            feedId = 10
+        }
+        val otherExternalPostA = createPost(1).apply {
+            isExternal = true
+            feedId = 20
+        }
+
+        val updates = dispatchDiff(listOf(externalPostA), listOf(otherExternalPostA))
+
+        assertThat(updates).containsExactlyInAnyOrder("removed 0 1", "inserted 0 1")
+    }
+
+    @Test
+    fun `an appearing gap marker is dispatched as an insert`() {
+        val posts = listOf(postA, postB, postC)
+
+        val updates = dispatchDiff(posts, NO_GAP_MARKER, posts, 2)
+
+        assertThat(updates).containsExactly("inserted 2 1")
+    }
+
+    @Test
+    fun `a disappearing gap marker is dispatched as a removal`() {
+        val posts = listOf(postA, postB, postC)
+
+        val updates = dispatchDiff(posts, 2, posts, NO_GAP_MARKER)
+
+        assertThat(updates).containsExactly("removed 2 1")
+    }
+
+    @Test
+    fun `the gap marker row is placed relative to the posts below the header`() {
+        val rows = ReaderPostRowsDiffCallback.toRows(listOf(postA, postB, postC), 3, 2)
+
+        assertThat(rows).containsExactly(postA, null, postB, postC)
+    }
+
+    @Test
+    fun `a gap marker outside of the posts is ignored`() {
+        val posts = listOf(postA, postB)
+
+        assertThat(ReaderPostRowsDiffCallback.toRows(posts, NO_GAP_MARKER, 0)).containsExactly(postA, postB)
+        assertThat(ReaderPostRowsDiffCallback.toRows(posts, 1, 2)).containsExactly(postA, postB)
+        assertThat(ReaderPostRowsDiffCallback.toRows(posts, 5, 2)).containsExactly(postA, postB)
+    }
+
+    @Test
+    fun `updates are shifted past the header rows`() {
+        val removal = dispatchDiff(listOf(postA, postB, postC), listOf(postA, postC), offset = 2)
+        val move = dispatchDiff(listOf(postA, postB, postC), listOf(postC, postA, postB), offset = 2)
+        val gapMarker = dispatchDiff(listOf(postA, postB), NO_GAP_MARKER, listOf(postA, postB), 3, offset = 2)
+
+        assertThat(removal).containsExactly("removed 3 1")
+        assertThat(move).containsExactly("moved 4 2")
+        assertThat(gapMarker).containsExactly("inserted 3 1")
+    }
+
+    private fun dispatchDiff(oldPosts: List<ReaderPost>, newPosts: List<ReaderPost>, offset: Int = 0) =
+        dispatchDiff(oldPosts, NO_GAP_MARKER, newPosts, NO_GAP_MARKER, offset)
+
+    private fun dispatchDiff(
+        oldPosts: List<ReaderPost>,
+        oldGapMarkerPosition: Int,
+        newPosts: List<ReaderPost>,
+        newGapMarkerPosition: Int,
+        offset: Int = 0
+    ): List<String> {
+        val diffResult = DiffUtil.calculateDiff(
+            ReaderPostRowsDiffCallback(
+                ReaderPostRowsDiffCallback.toRows(oldPosts, oldGapMarkerPosition, offset),
+                ReaderPostRowsDiffCallback.toRows(newPosts, newGapMarkerPosition, offset)
+            )
+        )
+        val updates = RecordingListUpdateCallback()
+        diffResult.dispatchUpdatesTo(OffsetListUpdateCallback(updates, offset))
+        return updates.updates
+    }
+
+    private fun createPost(postId: Long) = ReaderPost().apply {
+        blogId = 100
+        this.postId = postId
+    }
+
+    private class RecordingListUpdateCallback : ListUpdateCallback {
+        val updates = mutableListOf<String>()
+
+        override fun onInserted(position: Int, count: Int) {
+            updates.add("inserted $position $count")
+        }
+
+        override fun onRemoved(position: Int, count: Int) {
+            updates.add("removed $position $count")
+        }
+
+        override fun onMoved(fromPosition: Int, toPosition: Int) {
+            updates.add("moved $fromPosition $toPosition")
+        }
+
+        override fun onChanged(position: Int, count: Int, payload: Any?) {
+            updates.add("changed $position $count")
+        }
+    }
+
+    companion object {
+        private const val NO_GAP_MARKER = -1
+    }
+}
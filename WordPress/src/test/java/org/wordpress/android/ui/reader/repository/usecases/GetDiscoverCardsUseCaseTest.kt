@@ -8,10 +8,12 @@ import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.ArgumentMatchers.anyBoolean
-import org.mockito.ArgumentMatchers.anyLong
 import org.mockito.junit.MockitoJUnitRunner
+import org.mockito.kotlin.any
 import org.mockito.kotlin.anyOrNull
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.wordpress.android.BaseUnitTest
 import org.wordpress.android.datasets.ReaderBlogTableWrapper
@@ -19,6 +21,8 @@ import org.wordpress.android.datasets.ReaderDiscoverCardsTableWrapper
 import org.wordpress.android.datasets.wrappers.ReaderPostTableWrapper
 import org.wordpress.android.fluxc.utils.AppLogWrapper
 import org.wordpress.android.models.ReaderBlog
+import org.wordpress.android.models.ReaderPost
+import org.wordpress.android.models.ReaderPostList
 import org.wordpress.android.models.discover.ReaderDiscoverCard.InterestsYouMayLikeCard
 import org.wordpress.android.models.discover.ReaderDiscoverCard.ReaderPostCard
 import org.wordpress.android.models.discover.ReaderDiscoverCard.ReaderRecommendedBlogsCard
@@ -54,12 +58,14 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
         whenever(mockedJsonArray.getJSONObject(0)).thenReturn(mockedPostCardJson)
         whenever(mockedJsonArray.getJSONObject(1)).thenReturn(mockedInterestsCardJson)
         whenever(mockedJsonArray.getJSONObject(2)).thenReturn(mockedRecommendedBlogsCardJson)
-        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsJsons()).thenReturn(listOf(""))
+        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsPageIds()).thenReturn(listOf(1L))
+        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsPages(0L)).thenReturn(listOf(Pair(1L, "")))
         whenever(parseDiscoverCardsJsonUseCase.parseInterestCard(anyOrNull())).thenReturn(mock())
         whenever(parseDiscoverCardsJsonUseCase.parseSimplifiedRecommendedBlogsCard(anyOrNull()))
             .thenReturn(listOf(Pair(1L, 0L), Pair(2L, 0L)))
         whenever(parseDiscoverCardsJsonUseCase.parseSimplifiedPostCard(anyOrNull())).thenReturn(Pair(101, 102))
-        whenever(readerPostTableWrapper.getBlogPost(anyLong(), anyLong(), anyBoolean())).thenReturn(mock())
+        whenever(readerPostTableWrapper.getBlogPosts(any(), anyBoolean())).thenReturn(createPosts(101L to 102L))
+        whenever(readerBlogTableWrapper.getReaderBlogs(any())).thenReturn(emptyMap())
         whenever(mockedPostCardJson.getString(ReaderConstants.JSON_CARD_TYPE))
             .thenReturn(ReaderConstants.JSON_CARD_POST)
         whenever(mockedInterestsCardJson.getString(ReaderConstants.JSON_CARD_TYPE))
@@ -104,7 +110,7 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
     @Test
     fun `if post not found in local db the remaining items are still transformed`() = test {
         // Arrange
-        whenever(readerPostTableWrapper.getBlogPost(anyLong(), anyLong(), anyBoolean())).thenReturn(null)
+        whenever(readerPostTableWrapper.getBlogPosts(any(), anyBoolean())).thenReturn(ReaderPostList())
         // Act
         val result = useCase.get()
         // Assert
@@ -114,7 +120,7 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
     @Test
     fun `all items from the json are transformed into cards`() = test {
         // Arrange
-        whenever(readerPostTableWrapper.getBlogPost(anyLong(), anyLong(), anyBoolean())).thenReturn(mock())
+        whenever(readerPostTableWrapper.getBlogPosts(any(), anyBoolean())).thenReturn(createPosts(101L to 102L))
         // Act
         val result = useCase.get()
         // Assert
@@ -124,8 +130,7 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
     @Test
     fun `when cards json is empty an empty ReaderDiscoverCards is returned`() = test {
         // Arrange
-        val emptyList = listOf<String>()
-        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsJsons()).thenReturn(emptyList)
+        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsPageIds()).thenReturn(emptyList())
         // Act
         val result = useCase.get()
         // Assert
@@ -136,7 +141,7 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
     fun `recommended blog is retrieved from local db and added to the card`() = test {
         // Arrange
         val localReaderBlog = createReaderBlog()
-        whenever(readerBlogTableWrapper.getReaderBlog(1L, 0L)).thenReturn(localReaderBlog)
+        whenever(readerBlogTableWrapper.getReaderBlogs(any())).thenReturn(mapOf(Pair(1L, 0L) to localReaderBlog))
         // Act
         val result = useCase.get()
 
@@ -148,8 +153,7 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
     fun `if recommended blog retrieved from local db is null it's not added to the card`() = test {
         // Arrange
         val localReaderBlog = createReaderBlog()
-        whenever(readerBlogTableWrapper.getReaderBlog(1L, 0L)).thenReturn(localReaderBlog)
-        whenever(readerBlogTableWrapper.getReaderBlog(2L, 0L)).thenReturn(null)
+        whenever(readerBlogTableWrapper.getReaderBlogs(any())).thenReturn(mapOf(Pair(1L, 0L) to localReaderBlog))
         // Act
         val result = useCase.get()
 
@@ -157,6 +161,80 @@ class GetDiscoverCardsUseCaseTest : BaseUnitTest() {
         assertThat((result.cards[2] as ReaderRecommendedBlogsCard).blogs.size).isEqualTo(1)
     }
 
+    @Test
+    fun `posts and blogs of all the cards are loaded with one query each`() = test {
+        // Act
+        useCase.get()
+
+        // Assert
+        verify(readerPostTableWrapper, times(1)).getBlogPosts(any(), anyBoolean())
+        verify(readerBlogTableWrapper, times(1)).getReaderBlogs(listOf(Pair(1L, 0L), Pair(2L, 0L)))
+    }
+
+    @Test
+    fun `when a page is added only the new page is parsed`() = test {
+        // Arrange
+        useCase.get()
+        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsPageIds()).thenReturn(listOf(1L, 2L))
+        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsPages(1L)).thenReturn(listOf(Pair(2L, "")))
+        // Act
+        val result = useCase.get()
+
+        // Assert
+        verify(parseDiscoverCardsJsonUseCase, times(2)).convertListOfJsonArraysIntoSingleJsonArray(anyOrNull())
+        assertThat(result.cards.size).isEqualTo(6)
+    }
+
+    @Test
+    fun `when no page is added the stored pages are not parsed again`() = test {
+        // Arrange
+        useCase.get()
+        // Act
+        val result = useCase.get()
+
+        // Assert
+        verify(readerDiscoverCardsTableWrapper, times(1)).loadDiscoverCardsPages(0L)
+        verify(parseDiscoverCardsJsonUseCase, times(1)).convertListOfJsonArraysIntoSingleJsonArray(anyOrNull())
+        assertThat(result.cards.size).isEqualTo(3)
+    }
+
+    @Test
+    fun `when the pages are cleared the parsed pages are dropped`() = test {
+        // Arrange
+        useCase.get()
+        whenever(readerDiscoverCardsTableWrapper.loadDiscoverCardsPageIds()).thenReturn(emptyList())
+        // Act
+        val result = useCase.get()
+
+        // Assert
+        verify(readerPostTableWrapper, times(1)).getBlogPosts(any(), anyBoolean())
+        assertThat(result.cards).isEmpty()
+    }
+
+    @Test
+    fun `when the table is dropped and a page reuses an id the page is parsed again`() = test {
+        // Arrange
+        useCase.get()
+        whenever(readerDiscoverCardsTableWrapper.getGeneration()).thenReturn(1)
+        whenever(mockedJsonArray.length()).thenReturn(1)
+        // Act
+        val result = useCase.get()
+
+        // Assert
+        verify(readerDiscoverCardsTableWrapper, times(2)).loadDiscoverCardsPages(0L)
+        verify(parseDiscoverCardsJsonUseCase, times(2)).convertListOfJsonArraysIntoSingleJsonArray(anyOrNull())
+        assertThat(result.cards.size).isEqualTo(1)
+    }
+
+    private fun createPosts(vararg ids: Pair<Long, Long>) = ReaderPostList().apply {
+        ids.forEach { (blogId, postId) ->
+            add(ReaderPost().apply {
+                this.blogId = blogId
+                this.postId = postId
+            })
+        }
+    }
+
     private fun createReaderBlog() = ReaderBlog().apply {
         blogId = 1L
         description = "description"
@@ -0,0 +1,56 @@
+package org.wordpress.android.ui.reader.services
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.ui.reader.services.ReaderBackgroundExecutor.Priority
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ReaderBackgroundExecutorTest {
+    @Test
+    fun `queued tasks run by priority and then in submission order`() {
+        val releaseFirstWorker = CountDownLatch(1)
+        val releaseOtherWorkers = CountDownLatch(1)
+        val busy = CountDownLatch(WORKERS)
+        val done = CountDownLatch(QUEUED_TASKS)
+        val order = Collections.synchronizedList(mutableListOf<String>())
+
+        // occupy every worker so the following tasks have to wait in the queue
+        repeat(WORKERS) { index ->
+            val release = if (index == 0) releaseFirstWorker else releaseOtherWorkers
+            ReaderBackgroundExecutor.execute(Priority.FOREGROUND) {
+                busy.countDown()
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            }
+        }
+        assertThat(busy.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue
+
+        listOf(
+            Priority.BACKGROUND to "background 1",
+            Priority.FOREGROUND to "foreground 1",
+            Priority.BACKGROUND to "background 2",
+            Priority.FOREGROUND to "foreground 2"
+        ).forEach { (priority, name) ->
+            ReaderBackgroundExecutor.execute(priority) {
+                order.add(name)
+                done.countDown()
+            }
+        }
+        // a single free worker drains the queue one task at a time
+        releaseFirstWorker.countDown()
+
+        try {
+            assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue
+            assertThat(order).containsExactly("foreground 1", "foreground 2", "background 1", "background 2")
+        } finally {
+            releaseOtherWorkers.countDown()
+        }
+    }
+
+    companion object {
+        private const val WORKERS = 3
+        private const val QUEUED_TASKS = 4
+        private const val TIMEOUT_SECONDS = 5L
+    }
+}
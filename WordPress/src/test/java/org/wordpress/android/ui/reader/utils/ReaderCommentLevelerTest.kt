@@ -0,0 +1,67 @@
+package org.wordpress.android.ui.reader.utils
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.models.ReaderComment
+import org.wordpress.android.models.ReaderCommentList
+
+class ReaderCommentLevelerTest {
+    @Test
+    fun `children are placed below their parents in their original order`() {
+        val comments = commentList(
+            comment(id = 1, parentId = 0),
+            comment(id = 2, parentId = 0),
+            comment(id = 3, parentId = 1),
+            comment(id = 4, parentId = 3),
+            comment(id = 5, parentId = 1),
+            comment(id = 6, parentId = 2)
+        )
+
+        val result = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(result.map { it.commentId }).containsExactly(1L, 3L, 4L, 5L, 2L, 6L)
+        assertThat(result.map { it.level }).containsExactly(0, 1, 2, 1, 0, 1)
+    }
+
+    @Test
+    fun `comments whose parent is missing are left out`() {
+        val comments = commentList(
+            comment(id = 1, parentId = 0),
+            comment(id = 2, parentId = 99),
+            comment(id = 3, parentId = 2)
+        )
+
+        val result = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(result.map { it.commentId }).containsExactly(1L)
+    }
+
+    @Test
+    fun `levels from a previous pass are reset`() {
+        val comments = commentList(comment(id = 1, parentId = 0).apply { level = 3 })
+
+        val result = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(result.single().level).isEqualTo(0)
+    }
+
+    @Test
+    fun `deep threads are leveled without recursion`() {
+        val depth = 5000
+        val comments = commentList(
+            *(1..depth).map { comment(id = it.toLong(), parentId = it - 1L) }.reversed().toTypedArray()
+        )
+
+        val result = ReaderCommentLeveler(comments).createLevelList()
+
+        assertThat(result).hasSize(depth)
+        assertThat(result.last().level).isEqualTo(depth - 1)
+    }
+
+    private fun comment(id: Long, parentId: Long) = ReaderComment().apply {
+        commentId = id
+        this.parentId = parentId
+    }
+
+    private fun commentList(vararg comments: ReaderComment) = ReaderCommentList().apply { addAll(comments) }
+}
@@ -1,11 +1,14 @@
 package org.wordpress.android.ui.stats.refresh.lists.sections.granular.usecases
 
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.sync.Semaphore
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.Before
 import org.junit.Test
 import org.mockito.Mock
 import org.mockito.kotlin.any
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.wordpress.android.BaseUnitTest
 import org.wordpress.android.R
@@ -186,6 +189,49 @@ class ReferrersUseCaseTest : BaseUnitTest() {
         updatedResult.data!!.assertExpandedList()
     }
 
+    @Test
+    fun `prefetches the adjacent periods after a successful fetch`() = test {
+        val forced = false
+        val previousDate = Date(-1)
+        val nextDate = Date(1)
+        whenever((selectedDateProvider.getSelectedDateState(statsGranularity))).thenReturn(
+            SelectedDate(selectedDate, listOf(previousDate, selectedDate, nextDate))
+        )
+        val model = ReferrersModel(10, totalViews, listOf(wordPressReferrer, group, searchReferrer), false)
+        whenever(store.fetchReferrers(any(), any(), any(), any(), any())).thenReturn(OnStatsFetched(model))
+
+        loadData(true, forced)
+        useCase.startPrefetch(Semaphore(1))
+        advanceUntilIdle()
+
+        verify(store).fetchReferrers(site, statsGranularity, limitMode, selectedDate, forced)
+        verify(store).fetchReferrers(site, statsGranularity, limitMode, previousDate, false)
+        verify(store).fetchReferrers(site, statsGranularity, limitMode, nextDate, false)
+    }
+
+    @Test
+    fun `clearing the block cancels the prefetch of the adjacent periods`() = test {
+        val forced = false
+        val previousDate = Date(-1)
+        val nextDate = Date(1)
+        whenever((selectedDateProvider.getSelectedDateState(statsGranularity))).thenReturn(
+            SelectedDate(selectedDate, listOf(previousDate, selectedDate, nextDate))
+        )
+        val model = ReferrersModel(10, totalViews, listOf(wordPressReferrer, group, searchReferrer), false)
+        whenever(store.fetchReferrers(any(), any(), any(), any(), any())).thenReturn(OnStatsFetched(model))
+
+        loadData(true, forced)
+        // All the permits are taken, so the prefetch waits until the block is cleared
+        val permits = Semaphore(1, acquiredPermits = 1)
+        useCase.startPrefetch(permits)
+        useCase.clear()
+        permits.release()
+        advanceUntilIdle()
+
+        verify(store, never()).fetchReferrers(site, statsGranularity, limitMode, previousDate, false)
+        verify(store, never()).fetchReferrers(site, statsGranularity, limitMode, nextDate, false)
+    }
+
     private fun List<BlockListItem>.assertNonExpandedList(): ExpandableItem {
         assertThat(this).hasSize(5)
         assertTitle(this[0])
@@ -0,0 +1,89 @@
+package org.wordpress.android.ui.stats.refresh.lists.widget
+
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.mockito.Mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.wordpress.android.BaseUnitTest
+import org.wordpress.android.fluxc.model.SiteModel
+import org.wordpress.android.fluxc.store.StatsStore.OnStatsFetched
+import org.wordpress.android.fluxc.store.StatsStore.StatsError
+import org.wordpress.android.fluxc.store.StatsStore.StatsErrorType.GENERIC_ERROR
+import org.wordpress.android.fluxc.utils.CurrentTimeProvider
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.ALL_TIME
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.DAY_VIEWS
+import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetUpdater.StatsWidgetUpdaters
+import java.util.Date
+
+@ExperimentalCoroutinesApi
+class StatsWidgetDataRefresherTest : BaseUnitTest() {
+    @Mock
+    lateinit var statsWidgetUpdaters: StatsWidgetUpdaters
+
+    @Mock
+    lateinit var currentTimeProvider: CurrentTimeProvider
+
+    private lateinit var refresher: StatsWidgetDataRefresher
+    private val site = SiteModel().apply {
+        id = 1
+        siteId = 100L
+    }
+    private var now = 0L
+
+    @Before
+    fun setUp() {
+        whenever(currentTimeProvider.currentDate()).thenAnswer { Date(now) }
+        refresher = StatsWidgetDataRefresher(testScope(), { statsWidgetUpdaters }, currentTimeProvider)
+    }
+
+    @Test
+    fun `concurrent refreshes of the same data share one fetch`() {
+        val response = CompletableDeferred<OnStatsFetched<*>>()
+        var fetchCount = 0
+
+        repeat(3) {
+            refresher.refresh(site, DAY_VIEWS) {
+                fetchCount++
+                response.await()
+            }
+        }
+        response.complete(OnStatsFetched(model = Any()))
+
+        assertThat(fetchCount).isEqualTo(1)
+        verify(statsWidgetUpdaters).updateViewsWidget(site.siteId)
+    }
+
+    @Test
+    fun `refreshes are throttled but other data is fetched independently`() {
+        var fetchCount = 0
+        val fetch: suspend () -> OnStatsFetched<*> = {
+            fetchCount++
+            OnStatsFetched(model = Any(), cached = true)
+        }
+
+        refresher.refresh(site, DAY_VIEWS, fetch)
+        refresher.refresh(site, DAY_VIEWS, fetch)
+        refresher.refresh(site, ALL_TIME, fetch)
+
+        assertThat(fetchCount).isEqualTo(2)
+
+        now += 2 * 60 * 1000L
+        refresher.refresh(site, DAY_VIEWS, fetch)
+
+        assertThat(fetchCount).isEqualTo(3)
+    }
+
+    @Test
+    fun `widgets are not updated when nothing new was fetched`() {
+        refresher.refresh(site, DAY_VIEWS) { OnStatsFetched(model = Any(), cached = true) }
+        refresher.refresh(site, ALL_TIME) { OnStatsFetched<Any>(StatsError(GENERIC_ERROR)) }
+
+        verify(statsWidgetUpdaters, never()).updateViewsWidget(site.siteId)
+        verify(statsWidgetUpdaters, never()).updateAllTimeWidget(site.siteId)
+    }
+}
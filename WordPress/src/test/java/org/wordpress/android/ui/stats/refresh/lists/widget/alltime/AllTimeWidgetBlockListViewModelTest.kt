@@ -18,6 +18,7 @@ import org.wordpress.android.fluxc.model.stats.InsightsAllTimeModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.AllTimeInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.BlockItemUiModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -48,6 +49,9 @@ class AllTimeWidgetBlockListViewModelTest {
 
     @Mock
     private lateinit var appPrefsWrapper: AppPrefsWrapper
+
+    @Mock
+    private lateinit var statsWidgetDataRefresher: StatsWidgetDataRefresher
     private lateinit var viewModel: AllTimeWidgetBlockListViewModel
     private val siteId: Int = 15
     private val appWidgetId: Int = 1
@@ -61,7 +65,8 @@ class AllTimeWidgetBlockListViewModelTest {
             resourceProvider,
             allTimeWidgetUpdater,
             appPrefsWrapper,
-            statsUtils
+            statsUtils,
+            statsWidgetDataRefresher
         )
         viewModel.start(siteId, color, appWidgetId)
         whenever(statsUtils.toFormattedString(any<Int>(), any())).then { (it.arguments[0] as Int).toString() }
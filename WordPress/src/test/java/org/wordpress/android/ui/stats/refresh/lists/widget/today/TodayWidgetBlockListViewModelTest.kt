@@ -18,6 +18,7 @@ import org.wordpress.android.fluxc.model.stats.VisitsModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.TodayInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.BlockItemUiModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -52,6 +53,9 @@ class TodayWidgetBlockListViewModelTest {
 
     @Mock
     private lateinit var trafficSubscribersTabFeatureConfig: StatsTrafficSubscribersTabsFeatureConfig
+
+    @Mock
+    private lateinit var statsWidgetDataRefresher: StatsWidgetDataRefresher
     private lateinit var viewModel: TodayWidgetBlockListViewModel
     private val siteId: Int = 15
     private val appWidgetId: Int = 1
@@ -66,7 +70,8 @@ class TodayWidgetBlockListViewModelTest {
             todayWidgetUpdater,
             appPrefsWrapper,
             statsUtils,
-            trafficSubscribersTabFeatureConfig
+            trafficSubscribersTabFeatureConfig,
+            statsWidgetDataRefresher
         )
         viewModel.start(siteId, color, appWidgetId)
         whenever(statsUtils.toFormattedString(any<Int>(), any())).then { (it.arguments[0] as Int).toString() }
@@ -15,6 +15,7 @@ import org.wordpress.android.fluxc.model.stats.VisitsModel
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.insights.TodayInsightsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.lists.widget.today.TodayWidgetListViewModel.TodayItemUiModel
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -39,6 +40,9 @@ class TodayWidgetListViewModelTest {
 
     @Mock
     private lateinit var site: SiteModel
+
+    @Mock
+    private lateinit var statsWidgetDataRefresher: StatsWidgetDataRefresher
     private lateinit var viewModel: TodayWidgetListViewModel
     private val siteId: Int = 15
     private val appWidgetId: Int = 1
@@ -51,7 +55,8 @@ class TodayWidgetListViewModelTest {
             store,
             resourceProvider,
             appPrefsWrapper,
-            statsUtils
+            statsUtils,
+            statsWidgetDataRefresher
         )
         viewModel.start(siteId, color, appWidgetId)
         whenever(statsUtils.toFormattedString(any<Int>(), any())).then { (it.arguments[0] as Int).toString() }
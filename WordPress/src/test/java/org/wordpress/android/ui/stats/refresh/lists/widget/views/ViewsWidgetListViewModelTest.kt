@@ -25,6 +25,8 @@ import org.wordpress.android.ui.stats.refresh.lists.sections.BlockListItem.Value
 import org.wordpress.android.ui.stats.refresh.lists.sections.BlockListItem.ValueItem.State.NEUTRAL
 import org.wordpress.android.ui.stats.refresh.lists.sections.BlockListItem.ValueItem.State.POSITIVE
 import org.wordpress.android.ui.stats.refresh.lists.sections.granular.usecases.OverviewMapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher.WidgetData.DAY_VIEWS
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.StatsDateFormatter
 import org.wordpress.android.viewmodel.ResourceProvider
@@ -51,6 +53,9 @@ class ViewsWidgetListViewModelTest {
 
     @Mock
     private lateinit var site: SiteModel
+
+    @Mock
+    private lateinit var statsWidgetDataRefresher: StatsWidgetDataRefresher
     private lateinit var viewModel: ViewsWidgetListViewModel
     private val siteId: Int = 15
     private val appWidgetId: Int = 1
@@ -65,7 +70,8 @@ class ViewsWidgetListViewModelTest {
             overviewMapper,
             resourceProvider,
             statsDateFormatter,
-            appPrefsWrapper
+            appPrefsWrapper,
+            statsWidgetDataRefresher
         )
     }
 
@@ -144,6 +150,7 @@ class ViewsWidgetListViewModelTest {
             assertThat(data[2].change).isEqualTo(change)
         }
         verify(appPrefsWrapper).setAppWidgetHasData(true, appWidgetId)
+        verify(statsWidgetDataRefresher).refresh(eq(site), eq(DAY_VIEWS), any())
     }
 
     @Test
@@ -18,6 +18,7 @@ import org.wordpress.android.fluxc.network.utils.StatsGranularity.WEEKS
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.time.VisitsAndViewsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.lists.widget.weeks.WeekViewsWidgetListViewModel.WeekItemUiModel
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -42,6 +43,9 @@ class WeekViewsWidgetListViewModelTest {
 
     @Mock
     private lateinit var site: SiteModel
+
+    @Mock
+    private lateinit var statsWidgetDataRefresher: StatsWidgetDataRefresher
     private lateinit var viewModel: WeekViewsWidgetListViewModel
     private val siteId: Int = 15
     private val appWidgetId: Int = 1
@@ -54,7 +58,8 @@ class WeekViewsWidgetListViewModelTest {
             store,
             resourceProvider,
             appPrefsWrapper,
-            statsUtils
+            statsUtils,
+            statsWidgetDataRefresher
         )
         viewModel.start(siteId, color, appWidgetId)
         whenever(statsUtils.toFormattedString(any<Long>(), any())).then { (it.arguments[0] as Long).toString() }
@@ -21,6 +21,7 @@ import org.wordpress.android.fluxc.network.utils.StatsGranularity.WEEKS
 import org.wordpress.android.fluxc.store.SiteStore
 import org.wordpress.android.fluxc.store.stats.time.VisitsAndViewsStore
 import org.wordpress.android.ui.prefs.AppPrefsWrapper
+import org.wordpress.android.ui.stats.refresh.lists.widget.StatsWidgetDataRefresher
 import org.wordpress.android.ui.stats.refresh.lists.widget.WidgetBlockListProvider.BlockItemUiModel
 import org.wordpress.android.ui.stats.refresh.lists.widget.configuration.StatsColorSelectionViewModel.Color
 import org.wordpress.android.ui.stats.refresh.utils.StatsUtils
@@ -51,6 +52,9 @@ class WeekWidgetBlockListViewModelTest {
 
     @Mock
     private lateinit var todayWidgetUpdater: WeekViewsWidgetUpdater
+
+    @Mock
+    private lateinit var statsWidgetDataRefresher: StatsWidgetDataRefresher
     private lateinit var viewModel: WeekWidgetBlockListViewModel
     private val siteId: Int = 15
     private val appWidgetId: Int = 1
@@ -64,7 +68,8 @@ class WeekWidgetBlockListViewModelTest {
             resourceProvider,
             todayWidgetUpdater,
             appPrefsWrapper,
-            statsUtils
+            statsUtils,
+            statsWidgetDataRefresher
         )
         viewModel.start(siteId, color, appWidgetId)
         whenever(statsUtils.toFormattedString(any<Long>(), any())).then { (it.arguments[0] as Long).toString() }
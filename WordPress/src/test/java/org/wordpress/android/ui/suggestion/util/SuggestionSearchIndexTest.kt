@@ -0,0 +1,67 @@
+package org.wordpress.android.ui.suggestion.util
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.wordpress.android.ui.suggestion.Suggestion
+
+class SuggestionSearchIndexTest {
+    private val jane = Suggestion("", "jane", "Jane Doe")
+    private val johnny = Suggestion("", "johnny", "Johnny Smith")
+    private val john = Suggestion("", "john", "John Appleseed")
+    private val walter = Suggestion("", "walter", "Walter Jones")
+    private val mary = Suggestion("", "mjones", "Mary Ann Jo")
+
+    private val index = SuggestionSearchIndex(listOf(jane, johnny, john, walter, mary))
+
+    @Test
+    fun `empty constraint returns all the suggestions`() {
+        assertThat(index.filter("")).containsExactly(jane, johnny, john, walter, mary)
+        assertThat(index.filter(null)).containsExactly(jane, johnny, john, walter, mary)
+    }
+
+    @Test
+    fun `matches are ranked by exact value, value prefix, display value prefix and then display value word`() {
+        assertThat(index.filter("john")).containsExactly(john, johnny)
+        assertThat(index.filter("jo")).containsExactly(johnny, john, walter, mary)
+        assertThat(index.filter("m")).containsExactly(mary)
+    }
+
+    @Test
+    fun `matching is case insensitive and only at word starts`() {
+        assertThat(index.filter("DOE")).containsExactly(jane)
+        assertThat(index.filter("oe")).isEmpty()
+        assertThat(index.filter("ann jo")).containsExactly(mary)
+    }
+
+    @Test
+    fun `narrowing and widening the query return the same matches as a fresh search`() {
+        assertThat(index.filter("j")).containsExactly(jane, johnny, john, walter, mary)
+        assertThat(index.filter("jo")).containsExactly(johnny, john, walter, mary)
+        assertThat(index.filter("jon")).containsExactly(walter)
+        assertThat(index.filter("jonx")).isEmpty()
+        assertThat(index.filter("jonxy")).isEmpty()
+        assertThat(index.filter("ja")).containsExactly(jane)
+        assertThat(index.filter("w")).containsExactly(walter)
+    }
+
+    @Test
+    fun `large lists are filtered like a linear scan`() {
+        val suggestions = (0 until LARGE_LIST_SIZE).map {
+            Suggestion("", "user$it", "First$it Last${LARGE_LIST_SIZE - it}")
+        }
+        val largeIndex = SuggestionSearchIndex(suggestions)
+
+        listOf("u", "user1", "user12", "user123", "first9", "last4", "last42", "x").forEach { query ->
+            val expected = suggestions.filter {
+                it.value.startsWith(query) ||
+                        it.displayValue.lowercase().startsWith(query) ||
+                        it.displayValue.lowercase().contains(" $query")
+            }
+            assertThat(largeIndex.filter(query)).containsExactlyInAnyOrderElementsOf(expected)
+        }
+    }
+
+    companion object {
+        private const val LARGE_LIST_SIZE = 20000
+    }
+}
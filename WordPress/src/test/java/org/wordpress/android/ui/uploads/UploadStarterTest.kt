@@ -56,7 +56,7 @@ import kotlin.random.Random
 class UploadStarterTest : BaseUnitTest() {
     private val uploadServiceFacade = createMockedUploadServiceFacade()
 
-    private val sites = listOf(createSiteModel(), createSiteModel())
+    private val sites = listOf(createSiteModel(id = 1), createSiteModel(id = 2))
     private val sitesAndDraftPosts: Map<SiteModel, List<PostModel>> = mapOf(
         sites[0] to listOf(
             createLocallyChangedPostModel(DRAFT),
@@ -112,6 +112,7 @@ class UploadStarterTest : BaseUnitTest() {
         sites.forEach {
             on { getPostsWithLocalChanges(eq(it)) } doReturn sitesAndDraftPosts.getValue(it)
         }
+        on { getLocalSiteIdsWithLocalChanges() } doReturn sites.map { it.id }.toSet()
     }
 
     private val pageStore = mock<PageStore> {
@@ -195,6 +196,54 @@ class UploadStarterTest : BaseUnitTest() {
         )
     }
 
+    @Test
+    fun `when no site has local changes, no site's posts or pages are loaded`() = test {
+        // Given
+        whenever(postStore.getLocalSiteIdsWithLocalChanges()).thenReturn(emptySet())
+        val uploadServiceFacade = createMockedUploadServiceFacade()
+
+        val starter = createUploadStarter(createConnectionStatusLiveData(null), uploadServiceFacade)
+
+        // When
+        starter.queueUploadFromAllSites()
+
+        // Then
+        verify(postStore, never()).getPostsWithLocalChanges(any())
+        verify(pageStore, never()).getPagesWithLocalChanges(any())
+        verify(uploadServiceFacade, never()).uploadPost(
+            context = any(),
+            post = any(),
+            trackAnalytics = any(),
+            sourceForLogging = any(),
+        )
+    }
+
+    @Test
+    fun `when uploading all sites, only the sites with local changes are uploaded`() = test {
+        // Given
+        val site: SiteModel = sites[1]
+        whenever(postStore.getLocalSiteIdsWithLocalChanges()).thenReturn(setOf(site.id))
+        val uploadServiceFacade = createMockedUploadServiceFacade()
+
+        val starter = createUploadStarter(createConnectionStatusLiveData(null), uploadServiceFacade)
+
+        // When
+        starter.queueUploadFromAllSites()
+
+        // Then
+        verify(postStore, never()).getPostsWithLocalChanges(sites[0])
+        verify(pageStore, never()).getPagesWithLocalChanges(sites[0])
+        verify(postStore).getPostsWithLocalChanges(site)
+        verify(pageStore).getPagesWithLocalChanges(site)
+        val expectedUploadedPostsAndPages = sitesAndDraftPosts.getValue(site) + sitesAndDraftPages.getValue(site)
+        verify(uploadServiceFacade, times(expectedUploadedPostsAndPages.size)).uploadPost(
+            context = any(),
+            post = argWhere { expectedUploadedPostsAndPages.contains(it) },
+            trackAnalytics = any(),
+            sourceForLogging = any(),
+        )
+    }
+
     @Test
     fun `when uploading a single site, only posts & pages of that site are uploaded`() {
         // Given
@@ -563,7 +612,8 @@ class UploadStarterTest : BaseUnitTest() {
             setIsPage(page)
         }
 
-        fun createSiteModel(isWpCom: Boolean = true) = SiteModel().apply {
+        fun createSiteModel(id: Int = 0, isWpCom: Boolean = true) = SiteModel().apply {
+            this.id = id
             setIsWPCom(isWpCom)
         }
     }
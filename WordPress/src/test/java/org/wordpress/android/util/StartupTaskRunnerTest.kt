@@ -0,0 +1,87 @@
+package org.wordpress.android.util
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.wordpress.android.util.StartupTask.Mode.BACKGROUND
+import org.wordpress.android.util.StartupTask.Mode.DEFERRED
+import org.wordpress.android.util.StartupTask.Mode.MAIN
+import java.util.concurrent.Executor
+import kotlin.test.assertFailsWith
+
+class StartupTaskRunnerTest {
+    private val executed = mutableListOf<String>()
+    private val backgroundQueue = mutableListOf<Runnable>()
+    private val deferredQueue = mutableListOf<Runnable>()
+    private lateinit var runner: StartupTaskRunner
+
+    @Before
+    fun setUp() {
+        runner = StartupTaskRunner(
+            backgroundExecutor = Executor { backgroundQueue.add(it) },
+            deferredExecutor = Executor { deferredQueue.add(it) },
+            clock = { 0L }
+        )
+    }
+
+    @Test
+    fun `main tasks run synchronously in declaration order`() {
+        runner.run(listOf(task("a"), task("b"), task("c")))
+
+        assertThat(executed).containsExactly("a", "b", "c")
+        assertThat(backgroundQueue).isEmpty()
+        assertThat(deferredQueue).isEmpty()
+    }
+
+    @Test
+    fun `independent background tasks are scheduled before main tasks run`() {
+        runner.run(listOf(task("main"), task("bg", BACKGROUND)))
+
+        assertThat(executed).containsExactly("main")
+        assertThat(backgroundQueue).hasSize(1)
+
+        backgroundQueue.single().run()
+
+        assertThat(executed).containsExactly("main", "bg")
+    }
+
+    @Test
+    fun `off-main task is scheduled only once all its dependencies completed`() {
+        runner.run(
+            listOf(
+                task("main"),
+                task("bg", BACKGROUND),
+                task("deferred", DEFERRED, listOf("main", "bg"))
+            )
+        )
+
+        assertThat(deferredQueue).isEmpty()
+
+        backgroundQueue.single().run()
+        deferredQueue.single().run()
+
+        assertThat(executed).containsExactly("main", "bg", "deferred")
+    }
+
+    @Test
+    fun `main task cannot depend on an off-main task`() {
+        assertFailsWith<IllegalArgumentException> {
+            runner.run(listOf(task("bg", BACKGROUND), task("main", MAIN, listOf("bg"))))
+        }
+        assertThat(executed).isEmpty()
+    }
+
+    @Test
+    fun `unknown dependencies and cycles are rejected`() {
+        assertFailsWith<IllegalArgumentException> {
+            runner.run(listOf(task("bg", BACKGROUND, listOf("missing"))))
+        }
+        assertFailsWith<IllegalArgumentException> {
+            runner.run(listOf(task("a", BACKGROUND, listOf("b")), task("b", BACKGROUND, listOf("a"))))
+        }
+        assertThat(backgroundQueue).isEmpty()
+    }
+
+    private fun task(name: String, mode: StartupTask.Mode = MAIN, dependsOn: List<String> = emptyList()) =
+        StartupTask(name, mode, dependsOn) { executed.add(name) }
+}
@@ -0,0 +1,68 @@
+package org.wordpress.android.util.config
+
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.wordpress.android.BaseUnitTest
+import org.wordpress.android.fluxc.persistence.FeatureFlagConfigDao.FeatureFlag
+import org.wordpress.android.fluxc.persistence.FeatureFlagConfigDao.FeatureFlagValueSource
+import org.wordpress.android.fluxc.store.mobile.FeatureFlagsStore
+import org.wordpress.android.util.config.AppConfig.FeatureState
+
+@ExperimentalCoroutinesApi
+class FeatureFlagConfigTest : BaseUnitTest() {
+    private val featureFlagStore = mock<FeatureFlagsStore>()
+
+    @Test
+    fun `given stored flags, when checked, then the stored values are returned`() {
+        val config = FeatureFlagConfig(featureFlagStore, mock(), testScope())
+
+        config.flags = listOf(createFlag(ENABLED_FIELD, true), createFlag(DISABLED_FIELD, false))
+
+        assertThat(config.isEnabled(ENABLED_FIELD)).isTrue
+        assertThat(config.isEnabled(DISABLED_FIELD)).isFalse
+        assertThat(config.getString(ENABLED_FIELD)).isEqualTo(ENABLED_FIELD)
+        assertThat(config.getFeatureState(ENABLED_FIELD, false)).isEqualTo(FeatureState.RemoteValue(true))
+    }
+
+    @Test
+    fun `given the flags are reloaded, when checked, then the new values are returned`() {
+        val config = FeatureFlagConfig(featureFlagStore, mock(), testScope())
+        config.flags = listOf(createFlag(ENABLED_FIELD, true))
+
+        config.flags = listOf(createFlag(ENABLED_FIELD, false))
+
+        assertThat(config.isEnabled(ENABLED_FIELD)).isFalse
+    }
+
+    @Test
+    fun `given a missing flag, when checked, then its build config value is stored and returned`() {
+        val storedFlags = listOf(createFlag(MISSING_FIELD, true))
+        whenever(featureFlagStore.getFeatureFlags()).thenReturn(storedFlags)
+        val config = FeatureFlagConfig(featureFlagStore, mock(), testScope())
+
+        val state = config.getFeatureState(MISSING_FIELD, true)
+
+        assertThat(state).isEqualTo(FeatureState.BuildConfigValue(true))
+        verify(featureFlagStore, times(1)).insertFeatureFlagValue(MISSING_FIELD, true)
+        assertThat(config.getFeatureState(MISSING_FIELD, true)).isEqualTo(FeatureState.RemoteValue(true))
+    }
+
+    private fun createFlag(key: String, value: Boolean) = FeatureFlag(
+        key = key,
+        value = value,
+        createdAt = 0L,
+        modifiedAt = 0L,
+        source = FeatureFlagValueSource.REMOTE
+    )
+
+    companion object {
+        private const val ENABLED_FIELD = "enabled_field"
+        private const val DISABLED_FIELD = "disabled_field"
+        private const val MISSING_FIELD = "missing_field"
+    }
+}
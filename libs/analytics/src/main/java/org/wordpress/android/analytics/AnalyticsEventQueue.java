@@ -0,0 +1,117 @@
+package org.wordpress.android.analytics;
+
+import androidx.annotation.Nullable;
+
+import org.wordpress.android.analytics.AnalyticsTracker.Stat;
+import org.wordpress.android.util.AppLog;
+import org.wordpress.android.util.AppLog.T;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands analytics work off the caller's thread. Producers only append to a lock-free queue and wake the
+ * consumer, so {@link AnalyticsTracker#track} no longer pays for event enrichment, JSON building or the
+ * trackers themselves. Work runs on a single background thread in submission order.
+ * <p>
+ * Events are bounded by {@link #MAX_PENDING_EVENTS}: once the consumer falls that far behind, new events
+ * are dropped and counted instead of growing the queue without limit. Control operations (flush, metadata
+ * refresh, clearing data) are never dropped.
+ */
+final class AnalyticsEventQueue {
+    static final int MAX_PENDING_EVENTS = 1024;
+    private static final String THREAD_NAME = "AnalyticsEventQueue";
+
+    interface EventDispatcher {
+        void dispatch(Stat stat, @Nullable Map<String, ?> properties);
+    }
+
+    private final Queue<Runnable> mQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger mPendingEvents = new AtomicInteger();
+    private final AtomicLong mDroppedEvents = new AtomicLong();
+    private final EventDispatcher mDispatcher;
+    private final int mMaxPendingEvents;
+    private final Thread mConsumer;
+
+    AnalyticsEventQueue(EventDispatcher dispatcher) {
+        this(dispatcher, MAX_PENDING_EVENTS);
+    }
+
+    AnalyticsEventQueue(EventDispatcher dispatcher, int maxPendingEvents) {
+        mDispatcher = dispatcher;
+        mMaxPendingEvents = maxPendingEvents;
+        mConsumer = new Thread(this::consume, THREAD_NAME);
+        mConsumer.setDaemon(true);
+        mConsumer.setPriority(Thread.MIN_PRIORITY);
+        mConsumer.start();
+    }
+
+    /**
+     * Queues a tracking event. Returns false when the queue is full and the event was dropped.
+     */
+    boolean offerEvent(Stat stat, @Nullable Map<String, ?> properties) {
+        if (mPendingEvents.incrementAndGet() > mMaxPendingEvents) {
+            mPendingEvents.decrementAndGet();
+            long dropped = mDroppedEvents.incrementAndGet();
+            if (Long.bitCount(dropped) == 1) {
+                // Log on powers of two so a flood of drops doesn't flood the log as well
+                AppLog.w(T.STATS, "Analytics queue is full, dropped events so far: " + dropped);
+            }
+            return false;
+        }
+        mQueue.offer(new TrackedEvent(stat, properties));
+        LockSupport.unpark(mConsumer);
+        return true;
+    }
+
+    /**
+     * Queues an operation that must run after all previously queued events. Never dropped.
+     */
+    void offerControl(Runnable operation) {
+        mQueue.offer(operation);
+        LockSupport.unpark(mConsumer);
+    }
+
+    long getDroppedEventCount() {
+        return mDroppedEvents.get();
+    }
+
+    int getPendingEventCount() {
+        return mPendingEvents.get();
+    }
+
+    private void consume() {
+        while (true) {
+            Runnable task = mQueue.poll();
+            if (task == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                AppLog.e(T.STATS, "Analytics task failed", e);
+            }
+        }
+    }
+
+    private final class TrackedEvent implements Runnable {
+        private final Stat mStat;
+        @Nullable private final Map<String, ?> mProperties;
+
+        TrackedEvent(Stat stat, @Nullable Map<String, ?> properties) {
+            mStat = stat;
+            mProperties = properties;
+        }
+
+        @Override
+        public void run() {
+            mPendingEvents.decrementAndGet();
+            mDispatcher.dispatch(mStat, mProperties);
+        }
+    }
+}
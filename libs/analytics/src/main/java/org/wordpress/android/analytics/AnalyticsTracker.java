@@ -6,11 +6,11 @@ import android.content.SharedPreferences;
 import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class AnalyticsTracker {
     private static boolean mHasUserOptedOut;
@@ -1194,7 +1194,8 @@ public final class AnalyticsTracker {
         }
     }
 
-    private static final List<Tracker> TRACKERS = new ArrayList<>();
+    private static final List<Tracker> TRACKERS = new CopyOnWriteArrayList<>();
+    private static final AnalyticsEventQueue EVENT_QUEUE = new AnalyticsEventQueue(AnalyticsTracker::dispatch);
 
     private AnalyticsTracker() {
     }
@@ -1224,36 +1225,28 @@ public final class AnalyticsTracker {
     }
 
     public static void track(Stat stat) {
-        if (mHasUserOptedOut) {
+        if (mHasUserOptedOut || TRACKERS.isEmpty()) {
             return;
         }
 
-        for (Tracker tracker : TRACKERS) {
-            tracker.track(stat);
-        }
+        EVENT_QUEUE.offerEvent(stat, null);
     }
 
     public static @Nullable String getAnonID() {
         if (TRACKERS.isEmpty()) {
             return null;
         }
-        Tracker tracker = TRACKERS.get(0);
-        String anonId = tracker.getAnonID();
-        if (anonId == null) {
-            return tracker.generateNewAnonID();
-        } else {
-            return anonId;
-        }
+        // Read or generated right here, never behind the queued events
+        return TRACKERS.get(0).getOrGenerateAnonID();
     }
 
     public static void track(Stat stat, Map<String, ?> properties) {
-        if (mHasUserOptedOut) {
+        if (mHasUserOptedOut || TRACKERS.isEmpty()) {
             return;
         }
 
-        for (Tracker tracker : TRACKERS) {
-            tracker.track(stat, properties);
-        }
+        // Callers may keep mutating their map after this returns, so snapshot it before handing it off
+        EVENT_QUEUE.offerEvent(stat, properties == null ? null : new HashMap<>(properties));
     }
 
     /**
@@ -1271,33 +1264,72 @@ public final class AnalyticsTracker {
         track(stat, props);
     }
 
+    /**
+     * Number of events dropped because the background queue was full.
+     */
+    public static long getDroppedEventCount() {
+        return EVENT_QUEUE.getDroppedEventCount();
+    }
+
+    /**
+     * Number of events waiting to be handed to the trackers.
+     */
+    public static int getPendingEventCount() {
+        return EVENT_QUEUE.getPendingEventCount();
+    }
+
     public static void flush() {
         if (mHasUserOptedOut) {
             return;
         }
-        for (Tracker tracker : TRACKERS) {
-            tracker.flush();
-        }
+        EVENT_QUEUE.offerControl(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.flush();
+            }
+        });
     }
 
     public static void endSession(boolean force) {
         if (mHasUserOptedOut && !force) {
             return;
         }
-        for (Tracker tracker : TRACKERS) {
-            tracker.endSession();
-        }
+        EVENT_QUEUE.offerControl(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.endSession();
+            }
+        });
     }
 
+    /**
+     * Resets the anon ID right away, so {@link #getAnonID()} can't return the previous user's, then clears the rest
+     * of the trackers' data once the events queued before this call have been sent.
+     */
     public static void clearAllData() {
         for (Tracker tracker : TRACKERS) {
-            tracker.clearAllData();
+            tracker.clearAnonID();
         }
+        EVENT_QUEUE.offerControl(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.clearAllData();
+            }
+        });
     }
 
     public static void refreshMetadata(AnalyticsMetadata metadata) {
+        EVENT_QUEUE.offerControl(() -> {
+            for (Tracker tracker : TRACKERS) {
+                tracker.refreshMetadata(metadata);
+            }
+        });
+    }
+
+    private static void dispatch(Stat stat, @Nullable Map<String, ?> properties) {
         for (Tracker tracker : TRACKERS) {
-            tracker.refreshMetadata(metadata);
+            if (properties == null) {
+                tracker.track(stat);
+            } else {
+                tracker.track(stat, properties);
+            }
         }
     }
 }
@@ -461,11 +461,7 @@ public class AnalyticsTrackerNosara extends Tracker {
         } else {
             // This is just a security checks since the anonID is already available here.
             // refresh metadata is called on login/logout/startup and it loads/generates the anonId when necessary.
-            if (getAnonID() == null) {
-                user = generateNewAnonID();
-            } else {
-                user = getAnonID();
-            }
+            user = getOrGenerateAnonID();
             userType = TracksClient.NosaraUserType.ANON;
         }
 
@@ -573,9 +569,7 @@ public class AnalyticsTrackerNosara extends Tracker {
         } else {
             // Not wpcom connected. Check if anonID is already present
             setWordPressComUserName(null);
-            if (getAnonID() == null) {
-                generateNewAnonID();
-            }
+            getOrGenerateAnonID();
         }
     }
 
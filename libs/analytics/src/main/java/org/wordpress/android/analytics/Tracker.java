@@ -24,8 +24,9 @@ public abstract class Tracker {
 
     abstract String getAnonIdPrefKey();
 
-    private String mAnonID = null; // do not access this variable directly. Use methods.
-    private String mWpcomUserName = null;
+    // Trackers are driven from the analytics queue thread but read from callers' threads too
+    private volatile String mAnonID = null; // do not access this variable directly. Use methods.
+    private volatile String mWpcomUserName = null;
     Context mContext;
 
     public Tracker(Context context) throws IllegalArgumentException {
@@ -36,12 +37,12 @@ public abstract class Tracker {
     }
 
     void clearAllData() {
-        // Reset the anon ID here
-        clearAnonID();
+        // The anon ID was already reset by AnalyticsTracker on the caller's thread, so an ID generated since then
+        // isn't wiped here
         setWordPressComUserName(null);
     }
 
-    void clearAnonID() {
+    synchronized void clearAnonID() {
         mAnonID = null;
         SharedPreferences preferences = PreferenceManager.getDefaultSharedPreferences(mContext);
         if (preferences.contains(getAnonIdPrefKey())) {
@@ -59,7 +60,16 @@ public abstract class Tracker {
         return mAnonID;
     }
 
-    String generateNewAnonID() {
+    /**
+     * Returns the anon ID, generating one if there's none yet. Called from both the caller's thread and the
+     * analytics queue thread, so they can't each generate a different ID.
+     */
+    synchronized String getOrGenerateAnonID() {
+        String anonId = getAnonID();
+        return anonId != null ? anonId : generateNewAnonID();
+    }
+
+    synchronized String generateNewAnonID() {
         String uuid = UUID.randomUUID().toString().replace("-", "");
         AppLog.d(AppLog.T.STATS, "New anonID generated in " + this.getClass().getSimpleName() + ": " + uuid);
 
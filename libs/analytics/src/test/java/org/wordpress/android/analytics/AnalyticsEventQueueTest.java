@@ -0,0 +1,98 @@
+package org.wordpress.android.analytics;
+
+import org.junit.Test;
+import org.wordpress.android.analytics.AnalyticsTracker.Stat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalyticsEventQueueTest {
+    private final List<String> mDispatched = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void eventsAndControlOperationsRunInSubmissionOrder() throws InterruptedException {
+        AnalyticsEventQueue queue = new AnalyticsEventQueue((stat, properties) -> mDispatched.add(stat.name()));
+
+        queue.offerEvent(Stat.APPLICATION_OPENED, null);
+        queue.offerControl(() -> mDispatched.add("flush"));
+        queue.offerEvent(Stat.APPLICATION_CLOSED, Collections.singletonMap("key", "value"));
+        queue.offerControl(() -> mDispatched.add("clear"));
+        awaitDrained(queue);
+
+        assertThat(mDispatched).containsExactly(
+                Stat.APPLICATION_OPENED.name(), "flush", Stat.APPLICATION_CLOSED.name(), "clear");
+        assertThat(queue.getPendingEventCount()).isZero();
+    }
+
+    @Test
+    public void eventsAreDroppedAndCountedWhenTheQueueIsFull() throws InterruptedException {
+        AnalyticsEventQueue queue = new AnalyticsEventQueue((stat, properties) -> mDispatched.add(stat.name()), 3);
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseConsumer = new CountDownLatch(1);
+        queue.offerControl(() -> {
+            consumerBlocked.countDown();
+            awaitUninterruptibly(releaseConsumer);
+        });
+        assertThat(consumerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 5; i++) {
+            boolean accepted = queue.offerEvent(Stat.APPLICATION_OPENED, null);
+            assertThat(accepted).isEqualTo(i < 3);
+        }
+        assertThat(queue.getPendingEventCount()).isEqualTo(3);
+        assertThat(queue.getDroppedEventCount()).isEqualTo(2);
+
+        releaseConsumer.countDown();
+        awaitDrained(queue);
+
+        assertThat(mDispatched).hasSize(3);
+        assertThat(queue.getPendingEventCount()).isZero();
+        assertThat(queue.offerEvent(Stat.APPLICATION_CLOSED, null)).isTrue();
+        assertThat(queue.getDroppedEventCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void controlOperationsRunOnlyOnceEarlierEventsWereDispatched() throws InterruptedException {
+        AnalyticsEventQueue queue = new AnalyticsEventQueue((stat, properties) -> {
+            sleepUninterruptibly(5);
+            mDispatched.add(stat.name());
+        });
+        AtomicInteger dispatchedBeforeFlush = new AtomicInteger(-1);
+
+        for (int i = 0; i < 20; i++) {
+            queue.offerEvent(Stat.APPLICATION_OPENED, null);
+        }
+        queue.offerControl(() -> dispatchedBeforeFlush.set(mDispatched.size()));
+        awaitDrained(queue);
+
+        assertThat(dispatchedBeforeFlush.get()).isEqualTo(20);
+    }
+
+    private static void awaitDrained(AnalyticsEventQueue queue) throws InterruptedException {
+        CountDownLatch drained = new CountDownLatch(1);
+        queue.offerControl(drained::countDown);
+        assertThat(drained.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
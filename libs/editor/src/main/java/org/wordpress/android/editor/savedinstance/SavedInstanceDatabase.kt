@@ -12,6 +12,11 @@ import org.wordpress.android.editor.savedinstance.SavedParcelTable.dropTable
  * Database for the saved instance state data
  */
 class SavedInstanceDatabase(context: Context?) : SQLiteOpenHelper(context, DB_NAME, null, DB_VERSION) {
+    init {
+        // use the same write-ahead journal as the app's other databases so reads don't wait on writes
+        setWriteAheadLoggingEnabled(true)
+    }
+
     override fun onOpen(db: SQLiteDatabase) {
         super.onOpen(db)
     }
@@ -8,35 +8,38 @@ import com.yarolegovich.wellsql.WellSql;
 import org.wordpress.android.fluxc.persistence.HTTPAuthSqlUtils;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 
 public class HTTPAuthManager {
+    private static final Pattern XMLRPC_FILE_PATTERN = Pattern.compile("/[^/]*?.php$");
+
+    // Shared by all instances, loaded on first use and dropped whenever the stored credentials change
+    @Nullable private static volatile List<CredentialsEntry> sCredentials;
+
     @Inject public HTTPAuthManager() {}
 
     /**
-     * Get an HTTPAuthModel containing username and password for the url parameter
-     * TODO: Use an in memory model (or caching) - because this SQL query is executed every time a request is sent
+     * Get an HTTPAuthModel containing username and password for the url parameter. This is called for every
+     * request, so the stored credentials are kept in memory instead of being queried each time.
      *
      * @param url to test
      * @return null if url is not matching any known HTTP auth credentials
      */
     @Nullable
     public HTTPAuthModel getHTTPAuthModel(String url) {
-        List<HTTPAuthModel> authModels = WellSql.select(HTTPAuthModel.class).getAsModel();
-        if (authModels.isEmpty()) {
-            return null;
-        }
-        for (HTTPAuthModel authModel : authModels) {
-            if (url.startsWith(authModel.getRootUrl())) {
-                return authModel;
+        for (CredentialsEntry entry : getCredentials()) {
+            if (url.startsWith(entry.mRootUrl)) {
+                return entry.mModel;
             }
 
             // Also compare against the stored URL with the ending 'xmlrpc.php' (or other name) stripped
-            String xmlrpcStripped = authModel.getRootUrl().replaceFirst("/[^/]*?.php$", "");
-            if (url.startsWith(xmlrpcStripped)) {
-                return authModel;
+            if (url.startsWith(entry.mXmlrpcStrippedUrl)) {
+                return entry.mModel;
             }
         }
         return null;
@@ -51,6 +54,40 @@ public class HTTPAuthManager {
         httpAuthModel.setRealm(realm);
         // Replace old username / password / realm - URL used as key
         HTTPAuthSqlUtils.insertOrUpdateModel(httpAuthModel);
+        invalidateCache();
+    }
+
+    /**
+     * Drops the in-memory credentials, so they're read again from the database on the next lookup. Must be called
+     * whenever the HTTPAuthModel table is changed outside of this class.
+     */
+    public static synchronized void invalidateCache() {
+        sCredentials = null;
+    }
+
+    @NonNull
+    private static List<CredentialsEntry> getCredentials() {
+        List<CredentialsEntry> credentials = sCredentials;
+        if (credentials == null) {
+            credentials = loadCredentials();
+        }
+        return credentials;
+    }
+
+    // Synchronized with invalidateCache() so a load racing with a write can't put stale credentials back
+    @NonNull
+    private static synchronized List<CredentialsEntry> loadCredentials() {
+        List<CredentialsEntry> credentials = sCredentials;
+        if (credentials == null) {
+            List<HTTPAuthModel> authModels = WellSql.select(HTTPAuthModel.class).getAsModel();
+            List<CredentialsEntry> entries = new ArrayList<>(authModels.size());
+            for (HTTPAuthModel authModel : authModels) {
+                entries.add(new CredentialsEntry(authModel));
+            }
+            credentials = Collections.unmodifiableList(entries);
+            sCredentials = credentials;
+        }
+        return credentials;
     }
 
     private String normalizeURL(String url) {
@@ -61,4 +98,16 @@ public class HTTPAuthManager {
             return url;
         }
     }
+
+    private static class CredentialsEntry {
+        @NonNull private final HTTPAuthModel mModel;
+        @NonNull private final String mRootUrl;
+        @NonNull private final String mXmlrpcStrippedUrl;
+
+        CredentialsEntry(@NonNull HTTPAuthModel model) {
+            mModel = model;
+            mRootUrl = model.getRootUrl();
+            mXmlrpcStrippedUrl = XMLRPC_FILE_PATTERN.matcher(mRootUrl).replaceFirst("");
+        }
+    }
 }
@@ -10,9 +10,15 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -35,6 +41,8 @@ public class MemorizingTrustManager implements X509TrustManager {
     private FutureTask<X509TrustManager> mTrustManagerFutureTask;
     private FutureTask<KeyStore> mLocalKeyStoreFutureTask;
     private X509Certificate mLastFailure;
+    // Certificates the user accepted, by alias, read once from the KeyStore and kept in sync on store / clear
+    @Nullable private volatile AcceptedCertificates mAcceptedCertificates;
 
     @Inject public MemorizingTrustManager() {
         ExecutorService executorService = Executors.newFixedThreadPool(2);
@@ -105,11 +113,43 @@ public class MemorizingTrustManager implements X509TrustManager {
     }
 
     public boolean isCertificateAccepted(X509Certificate cert) {
+        return getAcceptedCertificates().mCertificates.contains(cert);
+    }
+
+    @NonNull
+    private AcceptedCertificates getAcceptedCertificates() {
+        AcceptedCertificates acceptedCertificates = mAcceptedCertificates;
+        if (acceptedCertificates == null) {
+            acceptedCertificates = loadAcceptedCertificates();
+        }
+        return acceptedCertificates;
+    }
+
+    @NonNull
+    private synchronized AcceptedCertificates loadAcceptedCertificates() {
+        AcceptedCertificates acceptedCertificates = mAcceptedCertificates;
+        if (acceptedCertificates != null) {
+            return acceptedCertificates;
+        }
+        Map<String, X509Certificate> certificatesByAlias = new HashMap<>();
+        KeyStore localKeyStore = getLocalKeyStore();
         try {
-            return getLocalKeyStore().getCertificateAlias(cert) != null;
-        } catch (GeneralSecurityException e) {
-            return false;
+            Enumeration<String> aliases = localKeyStore.aliases();
+            while (aliases.hasMoreElements()) {
+                String alias = aliases.nextElement();
+                Certificate certificate = localKeyStore.getCertificate(alias);
+                if (certificate instanceof X509Certificate) {
+                    certificatesByAlias.put(alias, (X509Certificate) certificate);
+                }
+            }
+        } catch (KeyStoreException e) {
+            // Don't keep a partial set around, the next check will read the KeyStore again
+            AppLog.e(T.API, "Unable to read the accepted certificates");
+            return new AcceptedCertificates(certificatesByAlias);
         }
+        acceptedCertificates = new AcceptedCertificates(certificatesByAlias);
+        mAcceptedCertificates = acceptedCertificates;
+        return acceptedCertificates;
     }
 
     public void storeLastFailure() {
@@ -121,9 +161,15 @@ public class MemorizingTrustManager implements X509TrustManager {
             getLocalKeyStore().setCertificateEntry(cert.getSubjectDN().toString(), cert);
         } catch (KeyStoreException e) {
             AppLog.e(T.API, "Unable to store the certificate: " + cert);
+        } finally {
+            invalidateAcceptedCertificates();
         }
     }
 
+    private synchronized void invalidateAcceptedCertificates() {
+        mAcceptedCertificates = null;
+    }
+
     public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
         getDefaultTrustManager().checkClientTrusted(chain, authType);
     }
@@ -164,6 +210,8 @@ public class MemorizingTrustManager implements X509TrustManager {
             }
         } catch (KeyStoreException e) {
             AppLog.e(T.API, "Unable to clear KeyStore");
+        } finally {
+            invalidateAcceptedCertificates();
         }
     }
 
@@ -175,6 +223,16 @@ public class MemorizingTrustManager implements X509TrustManager {
         return new MemorizingHostnameVerifier(defaultVerifier);
     }
 
+    private static class AcceptedCertificates {
+        @NonNull private final Map<String, X509Certificate> mByAlias;
+        @NonNull private final Set<X509Certificate> mCertificates;
+
+        AcceptedCertificates(@NonNull Map<String, X509Certificate> byAlias) {
+            mByAlias = Collections.unmodifiableMap(byAlias);
+            mCertificates = Collections.unmodifiableSet(new HashSet<>(byAlias.values()));
+        }
+    }
+
     private class MemorizingHostnameVerifier implements HostnameVerifier {
         private HostnameVerifier mDefaultVerifier;
 
@@ -191,7 +249,7 @@ public class MemorizingTrustManager implements X509TrustManager {
             // otherwise, we check if the hostname is an alias for this cert in our keystore
             try {
                 X509Certificate cert = (X509Certificate) session.getPeerCertificates()[0];
-                return cert.equals(getLocalKeyStore().getCertificate(cert.getSubjectDN().toString()));
+                return cert.equals(getAcceptedCertificates().mByAlias.get(cert.getSubjectDN().toString()));
             } catch (Exception e) {
                 e.printStackTrace();
                 return false;
@@ -6,6 +6,7 @@ import androidx.annotation.Nullable;
 import com.android.volley.AuthFailureError;
 import com.android.volley.NetworkResponse;
 import com.android.volley.NoConnectionError;
+import com.android.volley.Request;
 import com.android.volley.RequestQueue;
 import com.android.volley.ServerError;
 
@@ -21,6 +22,7 @@ import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.UrlUtils;
 
 import java.security.cert.CertificateException;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -44,6 +46,8 @@ public class DiscoveryXMLRPCClient extends BaseXMLRPCClient {
 
     /**
      * Obtain the HTML response from a GET request for the given URL.
+     *
+     * @throws CancellationException if the calling thread is interrupted, the request is cancelled as well
      */
     @Nullable
     public String getResponse(@NonNull String url) throws DiscoveryException {
@@ -53,7 +57,10 @@ public class DiscoveryXMLRPCClient extends BaseXMLRPCClient {
 
         try {
             return future.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | TimeoutException e) {
+        } catch (InterruptedException e) {
+            throw cancel(request, url);
+        } catch (TimeoutException e) {
+            request.cancel();
             AppLog.e(AppLog.T.API, "Couldn't get XML-RPC response");
         } catch (ExecutionException e) {
             if (e.getCause() instanceof AuthFailureError) {
@@ -79,6 +86,8 @@ public class DiscoveryXMLRPCClient extends BaseXMLRPCClient {
 
     /**
      * Perform a system.listMethods call on the given URL.
+     *
+     * @throws CancellationException if the calling thread is interrupted, the request is cancelled as well
      */
     @Nullable
     public Object[] listMethods(@NonNull String url) throws DiscoveryException {
@@ -95,7 +104,10 @@ public class DiscoveryXMLRPCClient extends BaseXMLRPCClient {
 
         try {
             return future.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | TimeoutException e) {
+        } catch (InterruptedException e) {
+            throw cancel(request, url);
+        } catch (TimeoutException e) {
+            request.cancel();
             AppLog.e(AppLog.T.API, "Couldn't get XML-RPC response.");
         } catch (ExecutionException e) {
             if (e.getCause() instanceof AuthFailureError) {
@@ -131,4 +143,16 @@ public class DiscoveryXMLRPCClient extends BaseXMLRPCClient {
         }
         return null;
     }
+
+    /**
+     * The endpoint finder interrupts the probes it no longer needs. Stop the request as well, so it doesn't keep
+     * running in the queue, and let the caller know it was cancelled rather than failed.
+     */
+    @NonNull
+    private static CancellationException cancel(@NonNull Request<?> request, @NonNull String url) {
+        request.cancel();
+        Thread.currentThread().interrupt();
+        AppLog.d(AppLog.T.API, "Discovery request cancelled: " + url);
+        return new CancellationException("Discovery request cancelled: " + url);
+    }
 }
@@ -1,6 +1,7 @@
 package org.wordpress.android.fluxc.network.discovery;
 
 import android.text.TextUtils;
+import android.util.LruCache;
 import android.webkit.URLUtil;
 
 import androidx.annotation.NonNull;
@@ -16,25 +17,46 @@ import org.wordpress.android.util.AppLog;
 import org.wordpress.android.util.AppLog.T;
 import org.wordpress.android.util.UrlUtils;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.inject.Inject;
-
+import javax.inject.Singleton;
+
+/**
+ * Finds the XML-RPC (and WP-API) endpoints of a self-hosted site.
+ * <p>
+ * Candidate URLs are probed concurrently, but their results are taken in the original order of preference: the
+ * first candidate that succeeds (or fails in a way that needs the user) wins as soon as every candidate before it
+ * has failed, and the remaining probes are cancelled. On a slow or misconfigured host discovery therefore takes as
+ * long as the slowest candidate it needs, instead of the sum of every timeout along the way.
+ */
+@Singleton
 public class SelfHostedEndpointFinder {
     public static final int TIMEOUT_MS = 60000;
+    private static final int MAX_CACHED_ENDPOINTS = 16;
     /**
      * Regex pattern for matching the RSD link found in most WordPress sites.
      */
     private static final Pattern RSD_LINK = Pattern.compile(
             "<link\\s*?rel=\"EditURI\"\\s*?type=\"application/rsd\\+xml\"\\s*?title=\"RSD\"\\s*?href=\"(.*?)\"",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern HEAD_END = Pattern.compile("</head\\s*>", Pattern.CASE_INSENSITIVE);
 
     @NonNull private final Dispatcher mDispatcher;
     @NonNull private final DiscoveryXMLRPCClient mDiscoveryXMLRPCClient;
     @NonNull private final DiscoveryWPAPIRestClient mDiscoveryWPAPIRestClient;
+    @NonNull private final ExecutorService mExecutor;
+    // Verified XML-RPC endpoints by sanitized site URL, re-checked with a single call before being reused
+    @NonNull private final LruCache<String, String> mVerifiedEndpoints = new LruCache<>(MAX_CACHED_ENDPOINTS);
 
     public enum DiscoveryError implements OnChangedError {
         INVALID_URL,
@@ -80,20 +102,40 @@ public class SelfHostedEndpointFinder {
             @NonNull Dispatcher dispatcher,
             @NonNull DiscoveryXMLRPCClient discoveryXMLRPCClient,
             @NonNull DiscoveryWPAPIRestClient discoveryWPAPIRestClient) {
+        this(dispatcher, discoveryXMLRPCClient, discoveryWPAPIRestClient, Executors.newCachedThreadPool());
+    }
+
+    SelfHostedEndpointFinder(
+            @NonNull Dispatcher dispatcher,
+            @NonNull DiscoveryXMLRPCClient discoveryXMLRPCClient,
+            @NonNull DiscoveryWPAPIRestClient discoveryWPAPIRestClient,
+            @NonNull ExecutorService executor) {
         mDispatcher = dispatcher;
         mDiscoveryXMLRPCClient = discoveryXMLRPCClient;
         mDiscoveryWPAPIRestClient = discoveryWPAPIRestClient;
+        mExecutor = executor;
     }
 
     public void findEndpoint(@NonNull final String url) {
-        new Thread(() -> {
+        mExecutor.execute(() -> {
+            // WP-API and XML-RPC discovery don't depend on each other, so run them side by side
+            Future<String> wpRestEndpointFuture = null;
+            if (BuildConfig.ENABLE_WPAPI) {
+                wpRestEndpointFuture = mExecutor.submit(() -> discoverWPRESTEndpoint(url));
+            }
+            String xmlRpcEndpoint = null;
+            DiscoveryException xmlRpcError = null;
             try {
-                String wpRestEndpoint = "";
-                if (BuildConfig.ENABLE_WPAPI) {
-                    wpRestEndpoint = discoverWPRESTEndpoint(url);
-                }
                 // TODO: Eventually make the XML-RPC discovery only run if WP-API discovery fails
-                String xmlRpcEndpoint = verifyOrDiscoverXMLRPCEndpoint(url);
+                xmlRpcEndpoint = verifyOrDiscoverXMLRPCEndpoint(url);
+            } catch (DiscoveryException e) {
+                xmlRpcError = e;
+            }
+            try {
+                String wpRestEndpoint = wpRestEndpointFuture != null ? awaitResult(wpRestEndpointFuture) : "";
+                if (xmlRpcError != null) {
+                    throw xmlRpcError;
+                }
                 DiscoveryResultPayload payload = new DiscoveryResultPayload(xmlRpcEndpoint, wpRestEndpoint);
                 mDispatcher.dispatch(AuthenticationActionBuilder.newDiscoveryResultAction(payload));
             } catch (DiscoveryException e) {
@@ -105,7 +147,7 @@ public class SelfHostedEndpointFinder {
                 DiscoveryResultPayload payload = new DiscoveryResultPayload(e.discoveryError, e.failedUrl);
                 mDispatcher.dispatch(AuthenticationActionBuilder.newDiscoveryResultAction(payload));
             }
-        }).start();
+        });
     }
 
     @NonNull
@@ -114,10 +156,19 @@ public class SelfHostedEndpointFinder {
             throw new DiscoveryException(DiscoveryError.INVALID_URL, siteUrl);
         }
 
-        if (WPUrlUtils.isWordPressCom(sanitizeSiteUrl(siteUrl, false))) {
+        final String sanitizedSiteUrl = sanitizeSiteUrl(siteUrl, false);
+        if (WPUrlUtils.isWordPressCom(sanitizedSiteUrl)) {
             throw new DiscoveryException(DiscoveryError.WORDPRESS_COM_SITE, siteUrl);
         }
 
+        String cachedXmlrpcUrl = mVerifiedEndpoints.get(sanitizedSiteUrl);
+        if (cachedXmlrpcUrl != null) {
+            if (isCachedEndpointStillValid(cachedXmlrpcUrl)) {
+                return cachedXmlrpcUrl;
+            }
+            mVerifiedEndpoints.remove(sanitizedSiteUrl);
+        }
+
         String xmlrpcUrl = verifyXMLRPCUrl(siteUrl);
 
         if (xmlrpcUrl == null) {
@@ -132,9 +183,19 @@ public class SelfHostedEndpointFinder {
             throw new DiscoveryException(DiscoveryError.NO_SITE_ERROR, xmlrpcUrl);
         }
 
+        mVerifiedEndpoints.put(sanitizedSiteUrl, xmlrpcUrl);
         return xmlrpcUrl;
     }
 
+    private boolean isCachedEndpointStillValid(@NonNull String xmlrpcUrl) {
+        try {
+            return checkXMLRPCEndpointValidity(xmlrpcUrl);
+        } catch (DiscoveryException | RuntimeException e) {
+            // Let the full discovery find out what changed and report it
+            return false;
+        }
+    }
+
     @NonNull
     private LinkedHashSet<String> getOrderedVerifyUrlsToTry(@NonNull String siteUrl) throws DiscoveryException {
         LinkedHashSet<String> urlsToTry = new LinkedHashSet<>();
@@ -172,30 +233,44 @@ public class SelfHostedEndpointFinder {
         final LinkedHashSet<String> urlsToTry = getOrderedVerifyUrlsToTry(siteUrl);
 
         AppLog.i(T.NUX, "Calling system.listMethods on the following URLs: " + urlsToTry);
+        final List<Future<Boolean>> probes = new ArrayList<>();
         for (String url : urlsToTry) {
-            try {
-                if (checkXMLRPCEndpointValidity(url)) {
+            probes.add(mExecutor.submit(() -> checkXMLRPCEndpointValidity(url)));
+        }
+        try {
+            int index = 0;
+            for (String url : urlsToTry) {
+                if (isVerifiedXMLRPCUrl(probes.get(index++))) {
                     // Endpoint found and works fine.
                     return url;
                 }
-            } catch (DiscoveryException e) {
-                // Stop execution for errors requiring user interaction
-                if (e.discoveryError == DiscoveryError.ERRONEOUS_SSL_CERTIFICATE
-                    || e.discoveryError == DiscoveryError.HTTP_AUTH_REQUIRED
-                    || e.discoveryError == DiscoveryError.MISSING_XMLRPC_METHOD
-                    || e.discoveryError == DiscoveryError.XMLRPC_BLOCKED) {
-                    throw e;
-                }
-                // Otherwise. swallow the error since we are just verifying various URLs
-            } catch (RuntimeException re) {
-                // Depending how corrupt the user entered URL is, it can generate several kinds of runtime exceptions,
-                // ignore them
             }
+        } finally {
+            cancelAll(probes);
         }
         // Input url was not verified to be working
         return null;
     }
 
+    private boolean isVerifiedXMLRPCUrl(@NonNull Future<Boolean> probe) throws DiscoveryException {
+        try {
+            return Boolean.TRUE.equals(awaitResult(probe));
+        } catch (DiscoveryException e) {
+            // Stop execution for errors requiring user interaction
+            if (e.discoveryError == DiscoveryError.ERRONEOUS_SSL_CERTIFICATE
+                || e.discoveryError == DiscoveryError.HTTP_AUTH_REQUIRED
+                || e.discoveryError == DiscoveryError.MISSING_XMLRPC_METHOD
+                || e.discoveryError == DiscoveryError.XMLRPC_BLOCKED) {
+                throw e;
+            }
+            // Otherwise. swallow the error since we are just verifying various URLs
+        } catch (RuntimeException re) {
+            // Depending how corrupt the user entered URL is, it can generate several kinds of runtime exceptions,
+            // ignore them
+        }
+        return false;
+    }
+
     // Attempts to retrieve the XML-RPC url for a self-hosted site.
     // See diagrams here https://github.com/wordpress-mobile/WordPress-Android/issues/3805 for details about the
     // whole process.
@@ -218,54 +293,32 @@ public class SelfHostedEndpointFinder {
 
         AppLog.i(AppLog.T.NUX, "Running RSD discovery process on the following URLs: " + urlsToTry);
 
-        String xmlrpcUrl = null;
-        boolean isWpSite = false;
+        final List<String> pageUrls = new ArrayList<>();
+        final List<Future<PageDiscoveryResult>> pageDiscoveries = new ArrayList<>();
         for (String currentURL : urlsToTry) {
-            if (!URLUtil.isValidUrl(currentURL)) {
-                continue;
-            }
-            // Download the HTML content
-            AppLog.i(AppLog.T.NUX, "Downloading the HTML content at the following URL: " + currentURL);
-            String responseHTML = mDiscoveryXMLRPCClient.getResponse(currentURL);
-            if (TextUtils.isEmpty(responseHTML)) {
-                AppLog.w(AppLog.T.NUX, "Content downloaded but it's empty or null. Skipping this URL");
-                continue;
+            if (URLUtil.isValidUrl(currentURL)) {
+                pageUrls.add(currentURL);
+                pageDiscoveries.add(mExecutor.submit(() -> discoverXMLRPCUrlInPage(currentURL)));
             }
+        }
 
-            // Try to find the RSD tag with a regex
-            String rsdUrl = getRSDMetaTagHrefRegEx(responseHTML);
-            rsdUrl = UrlUtils.addUrlSchemeIfNeeded(rsdUrl, false);
-
-            // If the RSD URL is empty here, try to see if the pingback or Apilink are in the doc, as the user
-            // could have inserted a direct link to the XML-RPC endpoint
-            if (rsdUrl == null) {
-                AppLog.i(AppLog.T.NUX, "Can't find the RSD endpoint in the HTML document. Try to check the "
-                                       + "pingback tag, and the apiLink tag.");
-                xmlrpcUrl = UrlUtils.addUrlSchemeIfNeeded(DiscoveryUtils.getXMLRPCPingback(responseHTML), false);
-                if (xmlrpcUrl == null) {
-                    xmlrpcUrl = UrlUtils.addUrlSchemeIfNeeded(DiscoveryUtils.getXMLRPCApiLink(responseHTML), false);
+        String xmlrpcUrl = null;
+        boolean isWpSite = false;
+        try {
+            for (int i = 0; i < pageDiscoveries.size() && xmlrpcUrl == null; i++) {
+                PageDiscoveryResult result = awaitResult(pageDiscoveries.get(i));
+                if (result != null) {
+                    isWpSite |= result.mIsWpSite;
+                    xmlrpcUrl = result.mXmlrpcUrl;
                 }
-            } else {
-                // If the site contains RSD link, it is WP.org site
-                isWpSite = true;
-                AppLog.i(AppLog.T.NUX, "RSD endpoint found at the following address: " + rsdUrl);
-                AppLog.i(AppLog.T.NUX, "Downloading the RSD document...");
-                String rsdEndpointDocument = mDiscoveryXMLRPCClient.getResponse(rsdUrl);
-                if (TextUtils.isEmpty(rsdEndpointDocument)) {
-                    AppLog.w(AppLog.T.NUX, "Content downloaded but it's empty or null. Skipping this RSD document"
-                                           + " URL.");
-                    continue;
+                if (xmlrpcUrl != null) {
+                    AppLog.i(AppLog.T.NUX, "Found the XML-RPC endpoint in the HTML document at " + pageUrls.get(i));
+                } else {
+                    AppLog.i(AppLog.T.NUX, "XML-RPC endpoint not found at " + pageUrls.get(i));
                 }
-                AppLog.i(AppLog.T.NUX, "Extracting the XML-RPC Endpoint address from the RSD document");
-                xmlrpcUrl = UrlUtils.addUrlSchemeIfNeeded(DiscoveryUtils.getXMLRPCApiLink(rsdEndpointDocument),
-                        false);
-            }
-            if (xmlrpcUrl != null) {
-                AppLog.i(AppLog.T.NUX, "Found the XML-RPC endpoint in the HTML document");
-                break;
-            } else {
-                AppLog.i(AppLog.T.NUX, "XML-RPC endpoint not found");
             }
+        } finally {
+            cancelAll(pageDiscoveries);
         }
 
         if (URLUtil.isValidUrl(xmlrpcUrl)) {
@@ -281,6 +334,94 @@ public class SelfHostedEndpointFinder {
         }
     }
 
+    @NonNull
+    private PageDiscoveryResult discoverXMLRPCUrlInPage(@NonNull String pageUrl) throws DiscoveryException {
+        // Download the HTML content
+        AppLog.i(AppLog.T.NUX, "Downloading the HTML content at the following URL: " + pageUrl);
+        String responseHTML = mDiscoveryXMLRPCClient.getResponse(pageUrl);
+        if (TextUtils.isEmpty(responseHTML)) {
+            AppLog.w(AppLog.T.NUX, "Content downloaded but it's empty or null. Skipping this URL");
+            return new PageDiscoveryResult(null, false);
+        }
+        // The links we're after all live in the head, don't run the regexes over the whole page
+        String head = getDocumentHead(responseHTML);
+
+        // Try to find the RSD tag with a regex
+        String rsdUrl = getRSDMetaTagHrefRegEx(head);
+        rsdUrl = UrlUtils.addUrlSchemeIfNeeded(rsdUrl, false);
+
+        // If the RSD URL is empty here, try to see if the pingback or Apilink are in the doc, as the user
+        // could have inserted a direct link to the XML-RPC endpoint
+        if (rsdUrl == null) {
+            AppLog.i(AppLog.T.NUX, "Can't find the RSD endpoint in the HTML document. Try to check the "
+                                   + "pingback tag, and the apiLink tag.");
+            String xmlrpcUrl = UrlUtils.addUrlSchemeIfNeeded(DiscoveryUtils.getXMLRPCPingback(head), false);
+            if (xmlrpcUrl == null) {
+                xmlrpcUrl = UrlUtils.addUrlSchemeIfNeeded(DiscoveryUtils.getXMLRPCApiLink(head), false);
+            }
+            return new PageDiscoveryResult(xmlrpcUrl, false);
+        }
+
+        // If the site contains RSD link, it is WP.org site
+        AppLog.i(AppLog.T.NUX, "RSD endpoint found at the following address: " + rsdUrl);
+        AppLog.i(AppLog.T.NUX, "Downloading the RSD document...");
+        String rsdEndpointDocument = mDiscoveryXMLRPCClient.getResponse(rsdUrl);
+        if (TextUtils.isEmpty(rsdEndpointDocument)) {
+            AppLog.w(AppLog.T.NUX, "Content downloaded but it's empty or null. Skipping this RSD document"
+                                   + " URL.");
+            return new PageDiscoveryResult(null, true);
+        }
+        AppLog.i(AppLog.T.NUX, "Extracting the XML-RPC Endpoint address from the RSD document");
+        return new PageDiscoveryResult(
+                UrlUtils.addUrlSchemeIfNeeded(DiscoveryUtils.getXMLRPCApiLink(rsdEndpointDocument), false), true);
+    }
+
+    @NonNull
+    private static String getDocumentHead(@NonNull String html) {
+        Matcher matcher = HEAD_END.matcher(html);
+        return matcher.find() ? html.substring(0, matcher.start()) : html;
+    }
+
+    /**
+     * Waits for a probe started on the executor and rethrows what it failed with.
+     */
+    @Nullable
+    private static <T> T awaitResult(@NonNull Future<T> future) throws DiscoveryException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DiscoveryException) {
+                throw (DiscoveryException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DiscoveryException(DiscoveryError.GENERIC_ERROR, null);
+        }
+    }
+
+    /**
+     * Interrupting a running probe makes {@link DiscoveryXMLRPCClient} cancel its request.
+     */
+    private static void cancelAll(@NonNull List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static class PageDiscoveryResult {
+        @Nullable final String mXmlrpcUrl;
+        final boolean mIsWpSite;
+
+        PageDiscoveryResult(@Nullable String xmlrpcUrl, boolean isWpSite) {
+            mXmlrpcUrl = xmlrpcUrl;
+            mIsWpSite = isWpSite;
+        }
+    }
+
     /**
      * Returns RSD URL based on regex match.
      */
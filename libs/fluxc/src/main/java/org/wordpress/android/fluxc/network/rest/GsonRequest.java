@@ -10,15 +10,20 @@ import com.android.volley.Response.Listener;
 import com.android.volley.toolbox.HttpHeaderParser;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 
 import org.wordpress.android.fluxc.logging.FluxCCrashLogger;
 import org.wordpress.android.fluxc.logging.FluxCCrashLoggerProvider;
 import org.wordpress.android.fluxc.network.BaseRequest;
 
-import java.io.UnsupportedEncodingException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +31,10 @@ public abstract class GsonRequest<T> extends BaseRequest<T> {
     private static final String PROTOCOL_CHARSET = "utf-8";
     private static final String PROTOCOL_CONTENT_TYPE = String.format("application/json; charset=%s", PROTOCOL_CHARSET);
 
+    // Gson is thread safe and caches the type adapters it builds, so all the requests using the default
+    // configuration share one instance instead of each starting with an empty cache
+    private static final Gson DEFAULT_GSON = getDefaultGsonBuilder().create();
+
     private final Gson mGson;
     private final Class<T> mClass;
     private final Type mType;
@@ -49,7 +58,7 @@ public abstract class GsonRequest<T> extends BaseRequest<T> {
         mType = type;
         mListener = listener;
         mCustomGsonBuilder = null;
-        mGson = getDefaultGsonBuilder().create();
+        mGson = DEFAULT_GSON;
         mParams = params;
         mBody = body;
     }
@@ -66,7 +75,7 @@ public abstract class GsonRequest<T> extends BaseRequest<T> {
         mType = type;
         mListener = listener;
         mCustomGsonBuilder = customGsonBuilder;
-        mGson = (customGsonBuilder != null ? customGsonBuilder : getDefaultGsonBuilder()).create();
+        mGson = customGsonBuilder != null ? customGsonBuilder.create() : DEFAULT_GSON;
         mParams = params;
         mBody = body;
     }
@@ -107,7 +116,9 @@ public abstract class GsonRequest<T> extends BaseRequest<T> {
     @Override
     protected Response<T> parseNetworkResponse(NetworkResponse response) {
         try {
-            String json = new String(response.data, HttpHeaderParser.parseCharset(response.headers));
+            // Parse straight from the response bytes rather than decoding the whole body into a String first
+            Charset charset = Charset.forName(HttpHeaderParser.parseCharset(response.headers));
+            Reader json = new InputStreamReader(new ByteArrayInputStream(response.data), charset);
             T res;
             if (mClass == null) {
                 res = mGson.fromJson(json, mType);
@@ -115,7 +126,8 @@ public abstract class GsonRequest<T> extends BaseRequest<T> {
                 res = mGson.fromJson(json, mClass);
             }
             return Response.success(res, createCacheEntry(response));
-        } catch (UnsupportedEncodingException | JsonSyntaxException e) {
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException | JsonSyntaxException
+                 | JsonIOException e) {
             logRequestPath();
             return Response.error(new ParseError(e));
         }
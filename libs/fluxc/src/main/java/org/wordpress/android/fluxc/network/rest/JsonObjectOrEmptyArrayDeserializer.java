@@ -15,11 +15,14 @@ import java.lang.reflect.Type;
  * MyServerResponse if the server response was [].
  */
 public class JsonObjectOrEmptyArrayDeserializer implements JsonDeserializer<JsonObjectOrEmptyArray> {
+    // Not the context: it would hand the object back to this deserializer. Gson is thread safe, so one is shared.
+    private static final Gson GSON = new Gson();
+
     @Override
     public JsonObjectOrEmptyArray deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
             throws JsonParseException {
         if (json.isJsonObject()) {
-            return new Gson().fromJson(json, typeOfT);
+            return GSON.fromJson(json, typeOfT);
         }
         return null;
     }
@@ -9,6 +9,8 @@ import com.google.gson.JsonParseException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Deserializes a response that is either an arbitrary JSON object, or an arbitrary JSON primitive.
@@ -20,6 +22,10 @@ import java.lang.reflect.Type;
  * So, this class is only useful if we don't care about the actual value of the primitive, only of the object.
  */
 public class JsonObjectOrFalseDeserializer implements JsonDeserializer<JsonObjectOrFalse> {
+    // Gson is thread safe, so the nested objects of every response share one instance and its adapter cache
+    private static final Gson GSON = new Gson();
+    private static final Map<Class<?>, Field[]> FIELDS_BY_CLASS = new ConcurrentHashMap<>();
+
     @Override
     public JsonObjectOrFalse deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
             throws JsonParseException {
@@ -36,8 +42,7 @@ public class JsonObjectOrFalseDeserializer implements JsonDeserializer<JsonObjec
                 return null;
             }
 
-            Field[] fields = clazz.getFields();
-            Gson gson = new Gson();
+            Field[] fields = getFields(clazz);
             for (Field field : fields) {
                 JsonElement element = json.getAsJsonObject().get(field.getName());
                 if (element == null) {
@@ -45,7 +50,7 @@ public class JsonObjectOrFalseDeserializer implements JsonDeserializer<JsonObjec
                 }
 
                 if (!element.isJsonPrimitive()) {
-                    field.set(result, gson.fromJson(element, field.getType()));
+                    field.set(result, GSON.fromJson(element, field.getType()));
                     continue;
                 }
                 Object elementToPrimitive = jsonPrimitiveToJavaPrimitive(field.getType(), element);
@@ -61,6 +66,15 @@ public class JsonObjectOrFalseDeserializer implements JsonDeserializer<JsonObjec
         return result;
     }
 
+    private static Field[] getFields(Class<?> clazz) {
+        Field[] fields = FIELDS_BY_CLASS.get(clazz);
+        if (fields == null) {
+            fields = clazz.getFields();
+            FIELDS_BY_CLASS.put(clazz, fields);
+        }
+        return fields;
+    }
+
     private static Object jsonPrimitiveToJavaPrimitive(Class<?> type, JsonElement element) {
         if (type == String.class) {
             return element.getAsString();
@@ -55,6 +55,15 @@ class ActivityLogSqlUtils @Inject constructor(private val formattableContentMapp
                 .map { it.build(formattableContentMapper) }
     }
 
+    fun getActivitiesCountForSite(site: SiteModel): Int {
+        return WellSql.select(ActivityLogBuilder::class.java)
+                .where()
+                .equals(ActivityLogTable.LOCAL_SITE_ID, site.id)
+                .endWhere()
+                .count()
+                .toInt()
+    }
+
     fun getRewindableActivitiesForSite(site: SiteModel, @SelectQuery.Order order: Int): List<ActivityLogModel> {
         return WellSql.select(ActivityLogBuilder::class.java)
                 .where()
@@ -0,0 +1,32 @@
+package org.wordpress.android.fluxc.persistence
+
+import android.database.sqlite.SQLiteDatabase
+
+/**
+ * Connection settings shared by the app's SQLite databases.
+ *
+ * Write-ahead logging lets readers keep using their own connections while a writer (a Reader sync, an upload, a
+ * list refresh) holds a transaction, instead of the UI waiting for the writer to commit. With WAL, `synchronous`
+ * can be lowered to NORMAL without risking corruption: a commit may be lost on power failure, but never half
+ * applied, and the app already treats the databases as caches of remote data.
+ *
+ * Call [configure] from `onConfigure` so it runs before the database is used, or right after opening a database
+ * that isn't managed by an open helper. Call [checkpoint] before copying a database file around, since recent
+ * commits may only be in the `-wal` file.
+ */
+object DatabaseConnectionConfig {
+    @JvmStatic
+    fun configure(db: SQLiteDatabase) {
+        if (db.isReadOnly) {
+            return
+        }
+        db.enableWriteAheadLogging()
+        // Set after WAL so the mode switch doesn't reset it on the primary connection
+        db.execSQL("PRAGMA synchronous = NORMAL")
+    }
+
+    @JvmStatic
+    fun checkpoint(db: SQLiteDatabase) {
+        db.rawQuery("PRAGMA wal_checkpoint(FULL)", null).use { it.moveToFirst() }
+    }
+}
@@ -40,6 +40,32 @@ class ListItemSqlUtils @Inject constructor() {
         }
     }
 
+    /**
+     * This function returns the remote item ids of the [ListItemModel] records for the given [listId], in list order.
+     *
+     * Only the remote item id column is read and no models are built, which matters for lists with thousands of
+     * items since the ids of the whole list are needed before the first page can be shown.
+     * Like [getListItems], it catches exceptions that occur during the database query and handles them.
+     */
+    @Suppress("TooGenericExceptionCaught")
+    fun getListItemRemoteIds(listId: Int): List<Long> {
+        return try {
+            getListItemsQuery(listId)
+                    .columns(ListItemModelTable.REMOTE_ITEM_ID)
+                    .asCursor
+                    .use {
+                        val remoteItemIds = ArrayList<Long>(it.count)
+                        while (it.moveToNext()) {
+                            remoteItemIds.add(it.getLong(0))
+                        }
+                        remoteItemIds
+                    }
+        } catch (e: Exception) {
+            AppLog.e(T.DB, "Error fetching item ids for listId: $listId", e)
+            emptyList()
+        }
+    }
+
     /**
      * This function returns the number of records a list has for the given [listId].
      */
@@ -40,19 +40,25 @@ public class MediaSqlUtils {
         return getMediaWithStatesQuery(site, uploadStates).getAsCursor();
     }
 
+    public static int getMediaWithStatesCount(
+            @NonNull SiteModel site,
+            @NonNull List<String> uploadStates) {
+        return (int) getMediaWithStatesQuery(site, uploadStates).count();
+    }
+
     @NonNull
     public static List<MediaModel> getMediaWithStatesAndMimeType(
             @NonNull SiteModel site,
             @NonNull List<String> uploadStates,
             @NonNull String mimeType) {
-        return WellSql.select(MediaModel.class)
-                .where().beginGroup()
-                .equals(MediaModelTable.LOCAL_SITE_ID, site.getId())
-                .contains(MediaModelTable.MIME_TYPE, mimeType)
-                .isIn(MediaModelTable.UPLOAD_STATE, uploadStates)
-                .endGroup().endWhere()
-                .orderBy(MediaModelTable.UPLOAD_DATE, SelectQuery.ORDER_DESCENDING)
-                .getAsModel();
+        return getMediaWithStatesAndMimeTypeQuery(site, uploadStates, mimeType).getAsModel();
+    }
+
+    public static int getMediaWithStatesAndMimeTypeCount(
+            @NonNull SiteModel site,
+            @NonNull List<String> uploadStates,
+            @NonNull String mimeType) {
+        return (int) getMediaWithStatesAndMimeTypeQuery(site, uploadStates, mimeType).count();
     }
 
     @NonNull
@@ -90,6 +96,24 @@ public class MediaSqlUtils {
                 .orderBy(MediaModelTable.UPLOAD_DATE, SelectQuery.ORDER_DESCENDING);
     }
 
+    public static int getAllSiteMediaCount(@NonNull SiteModel siteModel) {
+        return (int) getAllSiteMediaQuery(siteModel).count();
+    }
+
+    @NonNull
+    private static SelectQuery<MediaModel> getMediaWithStatesAndMimeTypeQuery(
+            @NonNull SiteModel site,
+            @NonNull List<String> uploadStates,
+            @NonNull String mimeType) {
+        return WellSql.select(MediaModel.class)
+                .where().beginGroup()
+                .equals(MediaModelTable.LOCAL_SITE_ID, site.getId())
+                .contains(MediaModelTable.MIME_TYPE, mimeType)
+                .isIn(MediaModelTable.UPLOAD_STATE, uploadStates)
+                .endGroup().endWhere()
+                .orderBy(MediaModelTable.UPLOAD_DATE, SelectQuery.ORDER_DESCENDING);
+    }
+
     @NonNull
     private static SelectQuery<MediaModel> getMediaWithStatesQuery(
             @NonNull SiteModel site,
@@ -1,6 +1,7 @@
 package org.wordpress.android.fluxc.persistence;
 
 import android.content.ContentValues;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.text.TextUtils;
 
@@ -31,8 +32,10 @@ import org.wordpress.android.fluxc.network.rest.wpcom.post.PostRemoteAutoSaveMod
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -181,6 +184,24 @@ public class PostSqlUtils {
                       .getAsModel();
     }
 
+    /**
+     * Returns the local ids of the sites that have posts or pages with local changes, the same rows
+     * {@link #getPostsWithLocalChanges} looks at. The query only touches the partial index created by
+     * {@link WellSqlConfig}, so answering "is anything pending?" doesn't scan or load any post.
+     */
+    @NonNull
+    public Set<Integer> getLocalSiteIdsWithLocalChanges() {
+        Set<Integer> localSiteIds = new HashSet<>();
+        try (Cursor cursor = WellSql.giveMeReadableDb().rawQuery(
+                "SELECT DISTINCT " + PostModelTable.LOCAL_SITE_ID + " FROM PostModel WHERE "
+                + PostModelTable.IS_LOCAL_DRAFT + " = 1 OR " + PostModelTable.IS_LOCALLY_CHANGED + " = 1", null)) {
+            while (cursor.moveToNext()) {
+                localSiteIds.add(cursor.getInt(0));
+            }
+        }
+        return localSiteIds;
+    }
+
     public List<PostModel> getPostsByRemoteIds(@Nullable List<Long> remoteIds, int localSiteId) {
         if (remoteIds != null && remoteIds.size() > 0) {
             return WellSql.select(PostModel.class)
@@ -1,5 +1,6 @@
 package org.wordpress.android.fluxc.persistence
 
+import android.util.LruCache
 import com.google.gson.Gson
 import com.google.gson.GsonBuilder
 import com.wellsql.generated.StatsBlockTable
@@ -10,10 +11,12 @@ import com.yarolegovich.wellsql.core.annotation.Column
 import com.yarolegovich.wellsql.core.annotation.PrimaryKey
 import com.yarolegovich.wellsql.core.annotation.Table
 import org.wordpress.android.fluxc.model.SiteModel
+import java.util.concurrent.atomic.AtomicLong
 import javax.inject.Inject
 import javax.inject.Singleton
 
 const val DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ssZ"
+private const val PARSED_BLOCKS_CACHE_SIZE = 64
 
 @Singleton
 class StatsSqlUtils @Inject constructor() {
@@ -23,6 +26,13 @@ class StatsSqlUtils @Inject constructor() {
         builder.create()
     }
 
+    /**
+     * Keeps the most recently read blocks already parsed, so screens and widgets showing the same stats don't read
+     * and deserialize the same JSON over and over. Entries are dropped whenever the rows they were read from change.
+     */
+    private val parsedBlocks = LruCache<BlockKey, ParsedBlock>(PARSED_BLOCKS_CACHE_SIZE)
+    private val parsedBlocksGeneration = AtomicLong()
+
     fun <T> insert(
         site: SiteModel,
         blockType: BlockType,
@@ -33,6 +43,29 @@ class StatsSqlUtils @Inject constructor() {
         postId: Long? = null
     ) {
         val json = gson.toJson(item)
+        val db = WellSql.giveMeWritableDb()
+        db.beginTransaction()
+        try {
+            insertBlock(site, blockType, statsType, json, replaceExistingData, date, postId)
+            db.setTransactionSuccessful()
+        } finally {
+            db.endTransaction()
+            invalidateParsedBlocks {
+                it.localSiteId == site.id && it.blockType == blockType && it.statsType == statsType
+            }
+        }
+    }
+
+    @Suppress("LongParameterList")
+    private fun insertBlock(
+        site: SiteModel,
+        blockType: BlockType,
+        statsType: StatsType,
+        json: String,
+        replaceExistingData: Boolean,
+        date: String?,
+        postId: Long?
+    ) {
         if (replaceExistingData) {
             var deleteStatement = WellSql.delete(StatsBlockBuilder::class.java)
                     .where()
@@ -67,8 +100,10 @@ class StatsSqlUtils @Inject constructor() {
         date: String? = null,
         postId: Long? = null
     ): List<T> {
-        val models = createSelectStatement(site, blockType, statsType, date, postId).asModel
-        return models.map { gson.fromJson(it.json, classOfT) }
+        return getOrParse(BlockKey(site.id, blockType, statsType, date, postId, isList = true), classOfT) {
+            val models = createSelectStatement(site, blockType, statsType, date, postId).asModel
+            models.map { gson.fromJson(it.json, classOfT) }
+        }
     }
 
     fun <T> select(
@@ -79,15 +114,15 @@ class StatsSqlUtils @Inject constructor() {
         date: String? = null,
         postId: Long? = null
     ): T? {
-        val model = createSelectStatement(site, blockType, statsType, date, postId).asModel.firstOrNull()
-        if (model != null) {
-            return gson.fromJson(model.json, classOfT)
+        return getOrParse(BlockKey(site.id, blockType, statsType, date, postId, isList = false), classOfT) {
+            val model = createSelectStatement(site, blockType, statsType, date, postId).asModel.firstOrNull()
+            model?.let { gson.fromJson(it.json, classOfT) }
         }
-        return null
     }
 
     fun deleteAllStats(): Int {
         return WellSql.delete(StatsBlockBuilder::class.java).execute()
+                .also { invalidateParsedBlocks { true } }
     }
 
     fun deleteSiteStats(site: SiteModel): Int {
@@ -96,6 +131,31 @@ class StatsSqlUtils @Inject constructor() {
                 .equals(StatsBlockTable.LOCAL_SITE_ID, site.id)
                 .endWhere()
                 .execute()
+                .also { invalidateParsedBlocks { it.localSiteId == site.id } }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun <R> getOrParse(key: BlockKey, type: Class<*>, read: () -> R): R {
+        val cached = parsedBlocks.get(key)
+        if (cached != null && cached.type == type) {
+            return cached.value as R
+        }
+        val generation = parsedBlocksGeneration.get()
+        val value = read()
+        // Don't cache what was read if the table changed in the meantime, it may already be stale
+        synchronized(parsedBlocks) {
+            if (parsedBlocksGeneration.get() == generation) {
+                parsedBlocks.put(key, ParsedBlock(type, value))
+            }
+        }
+        return value
+    }
+
+    private fun invalidateParsedBlocks(predicate: (BlockKey) -> Boolean) {
+        synchronized(parsedBlocks) {
+            parsedBlocksGeneration.incrementAndGet()
+            parsedBlocks.snapshot().keys.filter(predicate).forEach { parsedBlocks.remove(it) }
+        }
     }
 
     private fun createSelectStatement(
@@ -119,6 +179,17 @@ class StatsSqlUtils @Inject constructor() {
         return select.endWhere()
     }
 
+    private data class BlockKey(
+        val localSiteId: Int,
+        val blockType: BlockType,
+        val statsType: StatsType,
+        val date: String?,
+        val postId: Long?,
+        val isList: Boolean
+    )
+
+    private class ParsedBlock(val type: Class<*>, val value: Any?)
+
     @Table(name = "StatsBlock")
     data class StatsBlockBuilder(
         @PrimaryKey @Column private var mId: Int = -1,
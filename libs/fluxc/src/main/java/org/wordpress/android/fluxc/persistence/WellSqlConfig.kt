@@ -14,6 +14,7 @@ import com.yarolegovich.wellsql.WellTableManager
 import org.wordpress.android.fluxc.BuildConfig
 import org.wordpress.android.fluxc.model.plugin.SitePluginModel
 import org.wordpress.android.fluxc.model.plugin.WPOrgPluginModel
+import org.wordpress.android.fluxc.network.HTTPAuthManager
 import org.wordpress.android.util.AppLog
 import org.wordpress.android.util.AppLog.T
 import kotlin.annotation.AnnotationRetention.SOURCE
@@ -41,7 +42,7 @@ open class WellSqlConfig : DefaultWellConfig {
     annotation class AddOn
 
     override fun getDbVersion(): Int {
-        return 211
+        return 212
     }
 
     override fun getDbName(): String {
@@ -50,6 +51,18 @@ open class WellSqlConfig : DefaultWellConfig {
 
     override fun onCreate(db: SQLiteDatabase, helper: WellTableManager) {
         mTables.forEach { table -> helper.createTable(table) }
+        createPostLocalChangesIndex(db)
+    }
+
+    /**
+     * Partial index over the few posts with local changes, so finding the sites with something to upload doesn't
+     * scan every post of every site.
+     */
+    private fun createPostLocalChangesIndex(db: SQLiteDatabase) {
+        db.execSQL(
+            "CREATE INDEX IF NOT EXISTS PostModel_LOCAL_CHANGES ON PostModel(LOCAL_SITE_ID) " +
+                "WHERE IS_LOCAL_DRAFT = 1 OR IS_LOCALLY_CHANGED = 1"
+        )
     }
 
     @Suppress("CheckStyle", "LongMethod", "ComplexMethod", "MagicNumber")
@@ -2089,6 +2102,10 @@ open class WellSqlConfig : DefaultWellConfig {
                 210 -> {
                     db.execSQL("ALTER TABLE TermModel ADD IS_HIERARCHICAL BOOLEAN")
                 }
+
+                211 -> {
+                    createPostLocalChangesIndex(db)
+                }
             }
         }
         db.setTransactionSuccessful()
@@ -2113,6 +2130,7 @@ open class WellSqlConfig : DefaultWellConfig {
 
             AppLog.d(T.DB, "Database downgraded from version $oldVersion to $newVersion")
             helper?.let { reset(it) }
+            db?.let { createPostLocalChangesIndex(it) }
         } else {
             super.onDowngrade(db, helper, oldVersion, newVersion)
         }
@@ -2120,6 +2138,7 @@ open class WellSqlConfig : DefaultWellConfig {
 
     override fun onConfigure(db: SQLiteDatabase, helper: WellTableManager?) {
         db.setForeignKeyConstraintsEnabled(true)
+        DatabaseConnectionConfig.configure(db)
     }
 
     /**
@@ -2142,6 +2161,8 @@ open class WellSqlConfig : DefaultWellConfig {
             db.execSQL("DROP TABLE IF EXISTS ${table.tableName}")
             db.execSQL(table.createStatement())
         }
+        createPostLocalChangesIndex(db)
+        HTTPAuthManager.invalidateCache()
     }
 
     /**
@@ -123,10 +123,7 @@ class ActivityLogStore
     suspend fun fetchActivities(fetchActivityLogPayload: FetchActivityLogPayload): OnActivityLogFetched {
         var offset = 0
         if (fetchActivityLogPayload.loadMore) {
-            offset = activityLogSqlUtils.getActivitiesForSite(
-                    fetchActivityLogPayload.site,
-                    SelectQuery.ORDER_ASCENDING
-            ).size
+            offset = activityLogSqlUtils.getActivitiesCountForSite(fetchActivityLogPayload.site)
         }
         val payload = activityLogRestClient.fetchActivity(fetchActivityLogPayload, ACTIVITY_LOG_PAGE_SIZE, offset)
         return storeActivityLog(payload, FETCH_ACTIVITIES)
@@ -168,7 +168,7 @@ class ListStore @Inject constructor(
     private fun getListItems(listDescriptor: ListDescriptor): List<Long> {
         val listModel = listSqlUtils.getList(listDescriptor)
         return if (listModel != null) {
-            listItemSqlUtils.getListItems(listModel.id).map { it.remoteItemId }
+            listItemSqlUtils.getListItemRemoteIds(listModel.id)
         } else emptyList()
     }
 
@@ -678,7 +678,7 @@ public class MediaStore extends Store {
     }
 
     public int getSiteMediaCount(@NonNull SiteModel siteModel) {
-        return getAllSiteMedia(siteModel).size();
+        return MediaSqlUtils.getAllSiteMediaCount(siteModel);
     }
 
     public boolean hasSiteMediaWithId(@NonNull SiteModel siteModel, long mediaId) {
@@ -960,10 +960,10 @@ public class MediaStore extends Store {
             List<String> list = new ArrayList<>();
             list.add(MediaUploadState.UPLOADED.toString());
             if (payload.mimeType != null) {
-                offset = MediaSqlUtils.getMediaWithStatesAndMimeType(payload.site, list, payload.mimeType.getValue())
-                                      .size();
+                offset = MediaSqlUtils.getMediaWithStatesAndMimeTypeCount(payload.site, list,
+                        payload.mimeType.getValue());
             } else {
-                offset = MediaSqlUtils.getMediaWithStates(payload.site, list).size();
+                offset = MediaSqlUtils.getMediaWithStatesCount(payload.site, list);
             }
         }
         if (payload.site.isUsingSelfHostedRestApi()) {
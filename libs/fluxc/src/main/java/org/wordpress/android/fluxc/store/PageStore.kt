@@ -153,23 +153,38 @@ class PageStore @Inject constructor(
                     }
                     .associateBy { it.remotePostId }
 
-            return@withDefaultContext posts.map { getPageFromPost(it.key, site, posts, false) }
+            // Pages share their ancestors, so each PageModel is built once and reused by all of its children
+            val pages = HashMap<Long, PageModel>(posts.size)
+            val pagesInProgress = HashSet<Long>()
+            return@withDefaultContext posts.map { getPageFromPost(it.key, site, posts, pages, pagesInProgress, false) }
                     .filterNotNull()
                     .sortedBy { it.remoteId }
         }
     }
 
+    @Suppress("LongParameterList")
     private fun getPageFromPost(
         postId: Long,
         site: SiteModel,
         posts: Map<Long, PostModel>,
+        pages: MutableMap<Long, PageModel>,
+        pagesInProgress: MutableSet<Long>,
         skipLocalPages: Boolean = true
     ): PageModel? {
         if (skipLocalPages && (postId <= 0L || !posts.containsKey(postId))) {
             return null
         }
+        pages[postId]?.let { return it }
+        if (!pagesInProgress.add(postId)) {
+            // The parent chain loops back to this page, stop here instead of recursing forever
+            AppLog.w(AppLog.T.POSTS, "Page $postId is its own ancestor")
+            return null
+        }
         val post = posts[postId]!!
-        return PageModel(post, site, getPageFromPost(post.parentId, site, posts))
+        val page = PageModel(post, site, getPageFromPost(post.parentId, site, posts, pages, pagesInProgress))
+        pagesInProgress.remove(postId)
+        pages[postId] = page
+        return page
     }
 
     suspend fun deletePageFromServer(page: PageModel): OnPageChanged = suspendCoroutine { cont ->
@@ -62,6 +62,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -590,6 +591,14 @@ public class PostStore extends Store {
         return mPostSqlUtils.getPostsWithLocalChanges(site.getId(), false);
     }
 
+    /**
+     * Returns the local ids of the sites that have posts or pages with local changes.
+     */
+    @NonNull
+    public Set<Integer> getLocalSiteIdsWithLocalChanges() {
+        return mPostSqlUtils.getLocalSiteIdsWithLocalChanges();
+    }
+
     /**
      * Given a local ID for a post, returns that post as a {@link PostModel}.
      */
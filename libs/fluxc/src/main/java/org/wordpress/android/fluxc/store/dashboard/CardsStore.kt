@@ -1,5 +1,9 @@
 package org.wordpress.android.fluxc.store.dashboard
 
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.emitAll
+import kotlinx.coroutines.flow.flow
 import kotlinx.coroutines.flow.map
 import org.wordpress.android.fluxc.Payload
 import org.wordpress.android.fluxc.model.SiteModel
@@ -60,9 +64,30 @@ class CardsStore @Inject constructor(
 
     fun getCards(
         site: SiteModel,
-    ) = cardsDao.get(site.id).map { cards ->
-            cards.map { it.toCard() }}
-        .map { CardsResult(it) }
+    ): Flow<CardsResult<List<CardModel>>> {
+        // Room re-emits whenever the table changes, e.g. when another site's cards are stored. Rows whose JSON
+        // hasn't changed since the previous emission reuse the card parsed back then instead of going through Gson.
+        // The parsed cards are kept per collection, each collector gets its own.
+        return flow {
+            var parsedCards = emptyMap<String, ParsedCard>()
+            emitAll(
+                cardsDao.get(site.id)
+                    .distinctUntilChanged()
+                    .map { entities ->
+                        val previous = parsedCards
+                        val current = entities.associate { entity ->
+                            val parsed = previous[entity.type]?.takeIf { it.json == entity.json }
+                                ?: ParsedCard(entity.json, entity.toCard())
+                            entity.type to parsed
+                        }
+                        parsedCards = current
+                        CardsResult(entities.map { current.getValue(it.type).card })
+                    }
+            )
+        }
+    }
+
+    private class ParsedCard(val json: String, val card: CardModel)
 
     /* PAYLOADS */
 
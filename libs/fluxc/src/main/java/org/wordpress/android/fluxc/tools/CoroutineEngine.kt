@@ -1,9 +1,11 @@
 package org.wordpress.android.fluxc.tools
 
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Job
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.FlowCollector
+import kotlinx.coroutines.flow.emitAll
 import kotlinx.coroutines.flow.flow
 import kotlinx.coroutines.flow.flowOn
 import kotlinx.coroutines.flow.onCompletion
@@ -11,6 +13,7 @@ import kotlinx.coroutines.flow.onEach
 import kotlinx.coroutines.flow.onStart
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.withContext
+import org.wordpress.android.fluxc.BuildConfig
 import org.wordpress.android.fluxc.utils.AppLogWrapper
 import org.wordpress.android.util.AppLog
 import javax.inject.Inject
@@ -31,12 +34,38 @@ open class CoroutineEngine
         block: suspend CoroutineScope.() -> RESULT_TYPE
     ): RESULT_TYPE {
         appLog.d(tag, "${caller.javaClass.simpleName}: $loggedMessage")
-        return withContext(context, block)
+        val callMetrics = metrics ?: return withContext(context, block)
+        val calledAt = System.nanoTime()
+        return withContext(context) {
+            val startedAt = System.nanoTime()
+            var failed = true
+            try {
+                block().also { failed = false }
+            } catch (e: CancellationException) {
+                failed = false
+                throw e
+            } finally {
+                callMetrics.onCallCompleted(
+                    caller.javaClass,
+                    loggedMessage,
+                    startedAt - calledAt,
+                    System.nanoTime() - startedAt,
+                    failed
+                )
+            }
+        }
     }
 
     fun <RESULT_TYPE> run(tag: AppLog.T, caller: Any, loggedMessage: String, block: () -> RESULT_TYPE): RESULT_TYPE {
         appLog.d(tag, "${caller.javaClass.simpleName}: $loggedMessage")
-        return block()
+        val callMetrics = metrics ?: return block()
+        val startedAt = System.nanoTime()
+        var failed = true
+        try {
+            return block().also { failed = false }
+        } finally {
+            callMetrics.onCallCompleted(caller.javaClass, loggedMessage, 0L, System.nanoTime() - startedAt, failed)
+        }
     }
 
     fun <RESULT_TYPE> flowWithDefaultContext(
@@ -45,11 +74,38 @@ open class CoroutineEngine
         loggedMessage: String,
         block: suspend FlowCollector<RESULT_TYPE>.() -> Unit
     ): Flow<RESULT_TYPE> {
-        return flow { block() }
-            .flowOn(context)
-            .onStart { appLog.d(tag, "${caller.javaClass.simpleName}: $loggedMessage Started") }
-            .onEach { appLog.d(tag, "${caller.javaClass.simpleName}: $loggedMessage OnEvent: $it") }
-            .onCompletion { appLog.d(tag, "${caller.javaClass.simpleName}: $loggedMessage Completed") }
+        val logPrefix = "${caller.javaClass.simpleName}: $loggedMessage"
+        val callMetrics = metrics
+        val flow = if (callMetrics == null) {
+            flow { block() }
+                .flowOn(context)
+                .onStart { appLog.d(tag, "$logPrefix Started") }
+                .onCompletion { appLog.d(tag, "$logPrefix Completed") }
+        } else {
+            flow {
+                // Declared per collection, a flow can be collected several times and concurrently
+                var startedAt = 0L
+                val timedFlow = flow { block() }
+                    .flowOn(context)
+                    .onStart {
+                        startedAt = System.nanoTime()
+                        appLog.d(tag, "$logPrefix Started")
+                    }
+                    .onCompletion { cause ->
+                        appLog.d(tag, "$logPrefix Completed")
+                        callMetrics.onCallCompleted(
+                            caller.javaClass,
+                            loggedMessage,
+                            0L,
+                            System.nanoTime() - startedAt,
+                            cause != null && cause !is CancellationException
+                        )
+                    }
+                emitAll(timedFlow)
+            }
+        }
+        // Printing every emitted model is only worth its cost while debugging
+        return if (BuildConfig.DEBUG) flow.onEach { appLog.d(tag, "$logPrefix OnEvent: $it") } else flow
     }
 
     fun <RESULT_TYPE> launch(
@@ -59,8 +115,36 @@ open class CoroutineEngine
         block: suspend CoroutineScope.() -> RESULT_TYPE
     ): Job {
         appLog.d(tag, "${caller.javaClass.simpleName}: $loggedMessage")
+        val callMetrics = metrics ?: return coroutineScope.launch { block(this) }
+        val calledAt = System.nanoTime()
         return coroutineScope.launch {
-            block(this)
+            val startedAt = System.nanoTime()
+            var failed = true
+            try {
+                block(this)
+                failed = false
+            } catch (e: CancellationException) {
+                failed = false
+                throw e
+            } finally {
+                callMetrics.onCallCompleted(
+                    caller.javaClass,
+                    loggedMessage,
+                    startedAt - calledAt,
+                    System.nanoTime() - startedAt,
+                    failed
+                )
+            }
         }
     }
+
+    companion object {
+        /**
+         * Opt-in timings for every call made through an engine, e.g. a [CoroutineEngineCallStats] installed from a
+         * debug build. Nothing is measured while it's null.
+         */
+        @Volatile
+        @JvmStatic
+        var metrics: CoroutineEngineMetrics? = null
+    }
 }
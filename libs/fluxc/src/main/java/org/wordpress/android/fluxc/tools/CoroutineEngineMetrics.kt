@@ -0,0 +1,116 @@
+package org.wordpress.android.fluxc.tools
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Receives timings for the calls that go through [CoroutineEngine]. Install an implementation with
+ * [CoroutineEngine.metrics]; while none is installed the engine doesn't measure anything.
+ *
+ * A call site is identified by the caller's class and the message it logs, both of which the engine already has,
+ * so reporting a call doesn't allocate.
+ */
+interface CoroutineEngineMetrics {
+    /**
+     * @param queueWaitNanos time between the call and its block starting on the engine's dispatcher
+     * @param durationNanos time the block took once it started
+     * @param failed whether the block threw, cancellation isn't counted as a failure
+     */
+    fun onCallCompleted(
+        callerClass: Class<*>,
+        loggedMessage: String,
+        queueWaitNanos: Long,
+        durationNanos: Long,
+        failed: Boolean
+    )
+}
+
+/**
+ * [CoroutineEngineMetrics] that keeps a latency histogram, the total queue wait and the error count per call site.
+ *
+ * Durations are bucketed by powers of two of milliseconds (<1 ms, <2 ms, <4 ms, ... and a last open ended bucket),
+ * which is precise enough to spot a slow store call and needs no locking. Call [dump] to get a readable report,
+ * e.g. from a debug screen or when attaching logs to a support request.
+ */
+class CoroutineEngineCallStats : CoroutineEngineMetrics {
+    private val callSites = ConcurrentHashMap<Class<*>, ConcurrentHashMap<String, CallSiteStats>>()
+
+    override fun onCallCompleted(
+        callerClass: Class<*>,
+        loggedMessage: String,
+        queueWaitNanos: Long,
+        durationNanos: Long,
+        failed: Boolean
+    ) {
+        val stats = callSites.getOrPut(callerClass) { ConcurrentHashMap() }
+            .getOrPut(loggedMessage) { CallSiteStats() }
+        stats.record(queueWaitNanos, durationNanos, failed)
+    }
+
+    fun dump(): String = buildString {
+        callSites.entries.sortedBy { it.key.simpleName }.forEach { (callerClass, messages) ->
+            messages.entries.sortedBy { it.key }.forEach { (message, stats) ->
+                append(callerClass.simpleName).append(": ").append(message).append('\n')
+                stats.appendTo(this)
+            }
+        }
+    }
+
+    fun reset() {
+        callSites.clear()
+    }
+
+    private class CallSiteStats {
+        private val calls = AtomicLong()
+        private val errors = AtomicLong()
+        private val totalQueueWaitNanos = AtomicLong()
+        private val totalDurationNanos = AtomicLong()
+        private val durationBuckets = AtomicLongArray(BUCKET_COUNT)
+
+        fun record(queueWaitNanos: Long, durationNanos: Long, failed: Boolean) {
+            calls.incrementAndGet()
+            if (failed) errors.incrementAndGet()
+            totalQueueWaitNanos.addAndGet(queueWaitNanos)
+            totalDurationNanos.addAndGet(durationNanos)
+            durationBuckets.incrementAndGet(bucketFor(durationNanos))
+        }
+
+        fun appendTo(builder: StringBuilder) {
+            val count = calls.get()
+            if (count == 0L) return
+            builder.append("  calls=").append(count)
+                .append(" errors=").append(errors.get())
+                .append(" avgMs=").append(TimeUnit.NANOSECONDS.toMillis(totalDurationNanos.get() / count))
+                .append(" avgQueueWaitMs=").append(TimeUnit.NANOSECONDS.toMillis(totalQueueWaitNanos.get() / count))
+                .append('\n')
+                .append("  histogram:")
+            for (bucket in 0 until BUCKET_COUNT) {
+                val bucketCount = durationBuckets.get(bucket)
+                if (bucketCount > 0) {
+                    builder.append(' ').append(bucketLabel(bucket)).append('=').append(bucketCount)
+                }
+            }
+            builder.append('\n')
+        }
+
+        private fun bucketFor(durationNanos: Long): Int {
+            val millis = TimeUnit.NANOSECONDS.toMillis(durationNanos)
+            if (millis <= 0) return 0
+            // bucket n holds durations in [2^(n-1), 2^n) ms
+            return (Long.SIZE_BITS - java.lang.Long.numberOfLeadingZeros(millis)).coerceAtMost(BUCKET_COUNT - 1)
+        }
+
+        private fun bucketLabel(bucket: Int) = when (bucket) {
+            0 -> "<1ms"
+            BUCKET_COUNT - 1 -> ">=${1L shl (bucket - 1)}ms"
+            else -> "<${1L shl bucket}ms"
+        }
+    }
+
+    companion object {
+        // <1 ms up to >= 32 s
+        private const val BUCKET_COUNT = 17
+    }
+}
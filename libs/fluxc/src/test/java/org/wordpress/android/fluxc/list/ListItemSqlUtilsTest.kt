@@ -105,6 +105,20 @@ class ListItemSqlUtilsTest {
         assertEquals(0, listItemSqlUtils.getListItems(testList.id).size)
     }
 
+    @Test
+    fun testGetListItemRemoteIds() {
+        /**
+         * 1. Insert a test list with default number of items and assert that its inserted correctly
+         * 2. Verify that the remote item ids are returned in the order the items were inserted
+         */
+        val testList = generateInsertAndAssertListItems(PostListDescriptorForRestSite(testSite()))
+        assertEquals(
+                listItemSqlUtils.getListItems(testList.id).map { it.remoteItemId },
+                listItemSqlUtils.getListItemRemoteIds(testList.id)
+        )
+        assertEquals((1..20L).toList(), listItemSqlUtils.getListItemRemoteIds(testList.id))
+    }
+
     @Test
     fun testDeleteItemsFromLists() {
         /**
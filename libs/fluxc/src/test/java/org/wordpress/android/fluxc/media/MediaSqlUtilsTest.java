@@ -405,6 +405,30 @@ public class MediaSqlUtilsTest {
                 .isEqualTo(SMALL_TEST_POOL);
     }
 
+    // Inserts images, other media and a deleted image, then verifies the count queries match the list queries
+    @Test
+    public void testGetMediaWithStatesCount() {
+        SiteModel site = getTestSiteWithLocalId(TEST_LOCAL_SITE_ID);
+
+        insertImageTestItems();
+        MediaModel video = getTestMedia(41);
+        video.setMimeType("video/mp4");
+        video.setUploadState(MediaUploadState.UPLOADED);
+        assertThat(MediaSqlUtils.insertOrUpdateMedia(video)).isEqualTo(1);
+        MediaModel image = getTestMedia(42);
+        image.setMimeType("image/jpg");
+        image.setUploadState(MediaUploadState.DELETED);
+        assertThat(MediaSqlUtils.insertOrUpdateMedia(image)).isEqualTo(1);
+
+        assertThat(MediaSqlUtils.getMediaWithStatesCount(site, NOT_DELETED_STATES))
+                .isEqualTo(MediaSqlUtils.getMediaWithStates(site, NOT_DELETED_STATES).size())
+                .isEqualTo(SMALL_TEST_POOL + 1);
+        assertThat(MediaSqlUtils.getMediaWithStatesAndMimeTypeCount(site, NOT_DELETED_STATES, Type.IMAGE.getValue()))
+                .isEqualTo(SMALL_TEST_POOL);
+        assertThat(MediaSqlUtils.getAllSiteMediaCount(site)).isEqualTo(SMALL_TEST_POOL + 2);
+        assertThat(MediaSqlUtils.getAllSiteMediaCount(getTestSiteWithLocalId(TEST_LOCAL_SITE_ID + 1))).isEqualTo(0);
+    }
+
     @Test
         public void testPushAndFetchCollision() {
         // Test uploading media, fetching remote media and updating the db from the fetch first
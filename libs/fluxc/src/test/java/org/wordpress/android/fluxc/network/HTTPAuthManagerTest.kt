@@ -0,0 +1,59 @@
+package org.wordpress.android.fluxc.network
+
+import com.yarolegovich.wellsql.WellSql
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+import org.robolectric.annotation.Config
+import org.wordpress.android.fluxc.persistence.WellSqlConfig
+
+@Config(manifest = Config.NONE)
+@RunWith(RobolectricTestRunner::class)
+class HTTPAuthManagerTest {
+    private lateinit var config: WellSqlConfig
+    private val httpAuthManager = HTTPAuthManager()
+
+    @Before
+    fun setUp() {
+        val appContext = RuntimeEnvironment.application.applicationContext
+
+        config = WellSqlConfig(appContext)
+        WellSql.init(config)
+        config.reset()
+    }
+
+    @Test
+    fun `credentials are matched by root url and by the url without the xmlrpc file`() {
+        httpAuthManager.addHTTPAuthCredentials("user", "pass", "https://example.com/blog/xmlrpc.php", null)
+
+        assertThat(httpAuthManager.getHTTPAuthModel("https://example.com/blog/xmlrpc.php")?.username)
+            .isEqualTo("user")
+        assertThat(httpAuthManager.getHTTPAuthModel("https://example.com/blog/wp-json/wp/v2/posts")?.username)
+            .isEqualTo("user")
+        assertThat(httpAuthManager.getHTTPAuthModel("https://other.com/blog/xmlrpc.php")).isNull()
+    }
+
+    @Test
+    fun `updated credentials are returned after a previous lookup`() {
+        httpAuthManager.addHTTPAuthCredentials("user", "pass", "https://example.com", null)
+        assertThat(httpAuthManager.getHTTPAuthModel("https://example.com/xmlrpc.php")?.password).isEqualTo("pass")
+
+        HTTPAuthManager().addHTTPAuthCredentials("user", "new-pass", "https://example.com", null)
+
+        assertThat(httpAuthManager.getHTTPAuthModel("https://example.com/xmlrpc.php")?.password)
+            .isEqualTo("new-pass")
+    }
+
+    @Test
+    fun `credentials are gone after the database is reset`() {
+        httpAuthManager.addHTTPAuthCredentials("user", "pass", "https://example.com", null)
+        assertThat(httpAuthManager.getHTTPAuthModel("https://example.com/xmlrpc.php")).isNotNull
+
+        config.reset()
+
+        assertThat(httpAuthManager.getHTTPAuthModel("https://example.com/xmlrpc.php")).isNull()
+    }
+}
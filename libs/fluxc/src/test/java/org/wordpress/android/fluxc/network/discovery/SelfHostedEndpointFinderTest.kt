@@ -0,0 +1,192 @@
+package org.wordpress.android.fluxc.network.discovery
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.clearInvocations
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import org.wordpress.android.fluxc.Dispatcher
+import org.wordpress.android.fluxc.network.discovery.SelfHostedEndpointFinder.DiscoveryError
+import org.wordpress.android.fluxc.network.discovery.SelfHostedEndpointFinder.DiscoveryException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.test.assertFailsWith
+
+@Config(manifest = Config.NONE)
+@RunWith(RobolectricTestRunner::class)
+class SelfHostedEndpointFinderTest {
+    private val xmlrpcClient = mock<DiscoveryXMLRPCClient>()
+    private val wpApiClient = mock<DiscoveryWPAPIRestClient>()
+    private val listMethodsAnswers = mutableMapOf<String, () -> Array<Any>?>()
+    private lateinit var executor: ExecutorService
+    private lateinit var finder: SelfHostedEndpointFinder
+
+    @Before
+    fun setUp() {
+        executor = Executors.newCachedThreadPool()
+        finder = SelfHostedEndpointFinder(mock<Dispatcher>(), xmlrpcClient, wpApiClient, executor)
+        whenever(xmlrpcClient.listMethods(any())).thenAnswer { invocation ->
+            synchronized(listMethodsAnswers) { listMethodsAnswers[invocation.getArgument(0)] }?.invoke()
+        }
+    }
+
+    @After
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    fun `a preferred candidate wins over a faster one`() {
+        answerListMethods(HTTPS_XMLRPC_URL) {
+            Thread.sleep(SLOW_PROBE_MILLIS)
+            VALID_METHODS
+        }
+        answerListMethods(HTTP_XMLRPC_URL) { VALID_METHODS }
+
+        assertThat(finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)).isEqualTo(HTTPS_XMLRPC_URL)
+    }
+
+    @Test
+    fun `the first working candidate wins when the preferred ones fail`() {
+        answerListMethods(HTTPS_XMLRPC_URL) { null }
+        answerListMethods(HTTP_XMLRPC_URL) { VALID_METHODS }
+
+        assertThat(finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)).isEqualTo(HTTP_XMLRPC_URL)
+    }
+
+    @Test
+    fun `the probes that lost are interrupted`() {
+        val losingProbeStarted = CountDownLatch(1)
+        val losingProbeInterrupted = CountDownLatch(1)
+        answerListMethods(HTTPS_XMLRPC_URL) {
+            losingProbeStarted.await(5, TimeUnit.SECONDS)
+            VALID_METHODS
+        }
+        answerListMethods(HTTP_XMLRPC_URL) {
+            losingProbeStarted.countDown()
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30))
+            } catch (e: InterruptedException) {
+                losingProbeInterrupted.countDown()
+            }
+            null
+        }
+
+        assertThat(finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)).isEqualTo(HTTPS_XMLRPC_URL)
+        assertThat(losingProbeInterrupted.await(5, TimeUnit.SECONDS)).isTrue
+    }
+
+    @Test
+    fun `an SSL error stops the discovery`() {
+        assertDiscoveryStoppedBy(DiscoveryError.ERRONEOUS_SSL_CERTIFICATE)
+    }
+
+    @Test
+    fun `an HTTP auth error stops the discovery`() {
+        assertDiscoveryStoppedBy(DiscoveryError.HTTP_AUTH_REQUIRED)
+    }
+
+    @Test
+    fun `a blocked XML-RPC endpoint stops the discovery`() {
+        assertDiscoveryStoppedBy(DiscoveryError.XMLRPC_BLOCKED)
+    }
+
+    @Test
+    fun `a cached endpoint is reused after a single check`() {
+        answerListMethods(HTTPS_XMLRPC_URL) { VALID_METHODS }
+        finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)
+        clearInvocations(xmlrpcClient)
+
+        val endpoint = finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)
+
+        assertThat(endpoint).isEqualTo(HTTPS_XMLRPC_URL)
+        verify(xmlrpcClient).listMethods(HTTPS_XMLRPC_URL)
+        verify(xmlrpcClient, never()).listMethods(HTTP_XMLRPC_URL)
+        verify(xmlrpcClient, never()).getResponse(any())
+    }
+
+    @Test
+    fun `a cached endpoint that stopped working is discovered again`() {
+        answerListMethods(HTTPS_XMLRPC_URL) { VALID_METHODS }
+        finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)
+
+        answerListMethods(HTTPS_XMLRPC_URL) { null }
+        answerListMethods(HTTP_XMLRPC_URL) { VALID_METHODS }
+
+        assertThat(finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)).isEqualTo(HTTP_XMLRPC_URL)
+    }
+
+    @Test
+    fun `the RSD link in the document head leads to the endpoint`() {
+        whenever(xmlrpcClient.getResponse(SITE_URL)).thenReturn(
+            "<html><head><title>Site</title>$RSD_LINK</head><body><p>Hello</p></body></html>"
+        )
+        whenever(xmlrpcClient.getResponse(RSD_URL)).thenReturn(RSD_DOCUMENT)
+        answerListMethods(CUSTOM_XMLRPC_URL) { VALID_METHODS }
+
+        assertThat(finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)).isEqualTo(CUSTOM_XMLRPC_URL)
+    }
+
+    @Test
+    fun `an RSD link outside of the document head is ignored`() {
+        whenever(xmlrpcClient.getResponse(SITE_URL)).thenReturn(
+            "<html><head><title>Site</title></head><body>$RSD_LINK</body></html>"
+        )
+        whenever(xmlrpcClient.getResponse(RSD_URL)).thenReturn(RSD_DOCUMENT)
+        answerListMethods(CUSTOM_XMLRPC_URL) { VALID_METHODS }
+
+        val exception = assertFailsWith<DiscoveryException> {
+            finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)
+        }
+
+        assertThat(exception.discoveryError).isEqualTo(DiscoveryError.NO_SITE_ERROR)
+        verify(xmlrpcClient, never()).getResponse(RSD_URL)
+    }
+
+    private fun assertDiscoveryStoppedBy(error: DiscoveryError) {
+        answerListMethods(HTTPS_XMLRPC_URL) { throw DiscoveryException(error, HTTPS_XMLRPC_URL) }
+        answerListMethods(HTTP_XMLRPC_URL) { VALID_METHODS }
+
+        val exception = assertFailsWith<DiscoveryException> {
+            finder.verifyOrDiscoverXMLRPCEndpoint(SITE_URL)
+        }
+
+        assertThat(exception.discoveryError).isEqualTo(error)
+        assertThat(exception.failedUrl).isEqualTo(HTTPS_XMLRPC_URL)
+        verify(xmlrpcClient, never()).getResponse(any())
+    }
+
+    private fun answerListMethods(url: String, answer: () -> Array<Any>?) {
+        synchronized(listMethodsAnswers) { listMethodsAnswers[url] = answer }
+    }
+
+    companion object {
+        private const val SITE_URL = "https://example.com"
+        private const val HTTPS_XMLRPC_URL = "https://example.com/xmlrpc.php"
+        private const val HTTP_XMLRPC_URL = "http://example.com/xmlrpc.php"
+        private const val CUSTOM_XMLRPC_URL = "https://example.com/custom/xmlrpc.php"
+        private const val RSD_URL = "https://example.com/custom/xmlrpc.php?rsd"
+        private const val RSD_LINK =
+            "<link rel=\"EditURI\" type=\"application/rsd+xml\" title=\"RSD\" href=\"$RSD_URL\" />"
+        private const val RSD_DOCUMENT =
+            "<rsd><service><apis><api name=\"WordPress\" blogID=\"1\" preferred=\"true\" " +
+                    "apiLink=\"$CUSTOM_XMLRPC_URL\" /></apis></service></rsd>"
+        private const val SLOW_PROBE_MILLIS = 200L
+        private val VALID_METHODS: Array<Any> = arrayOf(
+            "wp.getProfile", "wp.getUsersBlogs", "wp.getPage", "wp.getCommentStatusList", "wp.newComment",
+            "wp.editComment", "wp.deleteComment", "wp.getComments", "wp.getComment", "wp.getOptions",
+            "wp.uploadFile", "wp.newCategory", "wp.getTags", "wp.getCategories", "wp.editPage", "wp.deletePage",
+            "wp.newPage", "wp.getPages"
+        )
+    }
+}
@@ -0,0 +1,127 @@
+package org.wordpress.android.fluxc.network.rest
+
+import com.android.volley.NetworkResponse
+import com.android.volley.ParseError
+import com.android.volley.Request
+import com.android.volley.Response
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.wordpress.android.fluxc.network.BaseRequest.BaseErrorListener
+
+@RunWith(RobolectricTestRunner::class)
+class GsonRequestTest {
+    @Test
+    fun `a UTF-8 body is parsed`() {
+        val response = parse(NamedResponse::class.java, "{\"name\":\"Zoë ✓\"}")
+
+        assertThat(response.isSuccess).isTrue
+        assertThat(response.result.name).isEqualTo("Zoë ✓")
+    }
+
+    @Test
+    fun `a body is decoded with the charset of its content type`() {
+        val response = parse(NamedResponse::class.java, "{\"name\":\"Zoë ✓\"}", "UTF-16")
+
+        assertThat(response.isSuccess).isTrue
+        assertThat(response.result.name).isEqualTo("Zoë ✓")
+    }
+
+    @Test
+    fun `an empty body is a successful null response`() {
+        val response = parse(NamedResponse::class.java, "")
+
+        assertThat(response.isSuccess).isTrue
+        assertThat(response.result).isNull()
+    }
+
+    @Test
+    fun `malformed JSON is a parse error`() {
+        val response = parse(NamedResponse::class.java, "{\"name\":")
+
+        assertThat(response.isSuccess).isFalse
+        assertThat(response.error).isInstanceOf(ParseError::class.java)
+    }
+
+    @Test
+    fun `an unknown charset is a parse error`() {
+        val response = parse(NamedResponse::class.java, "{\"name\":\"name\"}".toByteArray(), "not-a-charset")
+
+        assertThat(response.isSuccess).isFalse
+        assertThat(response.error).isInstanceOf(ParseError::class.java)
+    }
+
+    @Test
+    fun `an illegal charset name is a parse error`() {
+        val response = parse(NamedResponse::class.java, "{\"name\":\"name\"}".toByteArray(), "@@")
+
+        assertThat(response.isSuccess).isFalse
+        assertThat(response.error).isInstanceOf(ParseError::class.java)
+    }
+
+    @Test
+    fun `an object or false field is parsed by every request`() {
+        val withParent = parse(ChildResponse::class.java, "{\"parent\":{\"id\":5,\"title\":\"title\"}}")
+        val withoutParent = parse(ChildResponse::class.java, "{\"parent\":false}")
+        val withParentAgain = parse(ChildResponse::class.java, "{\"parent\":{\"id\":6}}")
+
+        assertThat(withParent.result.parent?.id).isEqualTo(5L)
+        assertThat(withParent.result.parent?.title).isEqualTo("title")
+        assertThat(withoutParent.isSuccess).isTrue
+        assertThat(withoutParent.result.parent).isNull()
+        assertThat(withParentAgain.result.parent?.id).isEqualTo(6L)
+        assertThat(withParentAgain.result.parent?.title).isNull()
+    }
+
+    @Test
+    fun `an object or empty array field is parsed by every request`() {
+        val withSettings = parse(SettingsResponse::class.java, "{\"settings\":{\"key\":\"value\"}}")
+        val withoutSettings = parse(SettingsResponse::class.java, "{\"settings\":[]}")
+        val withSettingsAgain = parse(SettingsResponse::class.java, "{\"settings\":{\"key\":\"other\"}}")
+
+        assertThat(withSettings.result.settings?.key).isEqualTo("value")
+        assertThat(withoutSettings.isSuccess).isTrue
+        assertThat(withoutSettings.result.settings).isNull()
+        assertThat(withSettingsAgain.result.settings?.key).isEqualTo("other")
+    }
+
+    private fun <T> parse(clazz: Class<T>, json: String, charset: String = "utf-8") =
+        parse(clazz, json.toByteArray(charset(charset)), charset)
+
+    private fun <T> parse(clazz: Class<T>, data: ByteArray, charset: String): Response<T> {
+        val headers = mapOf("Content-Type" to "application/json; charset=$charset")
+        return TestGsonRequest(clazz).parse(NetworkResponse(data, headers))
+    }
+
+    private class TestGsonRequest<T>(clazz: Class<T>) : GsonRequest<T>(
+        Request.Method.GET, null, null, URL, clazz, null, Response.Listener<T> {}, BaseErrorListener {}
+    ) {
+        fun parse(response: NetworkResponse): Response<T> = parseNetworkResponse(response)
+    }
+
+    class NamedResponse {
+        var name: String? = null
+    }
+
+    class ChildResponse {
+        var parent: Parent? = null
+    }
+
+    class Parent : JsonObjectOrFalse() {
+        @JvmField var id: Long = 0
+        @JvmField var title: String? = null
+    }
+
+    class SettingsResponse {
+        var settings: Settings? = null
+    }
+
+    class Settings : JsonObjectOrEmptyArray() {
+        var key: String? = null
+    }
+
+    companion object {
+        private const val URL = "https://public-api.wordpress.com/rest/v1.1/sites/1/"
+    }
+}
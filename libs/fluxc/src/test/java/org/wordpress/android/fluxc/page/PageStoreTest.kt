@@ -339,6 +339,32 @@ class PageStoreTest {
         assertThat(pages.filter { it.pageId > 10 }.all { it.parent != null }).isTrue()
     }
 
+    @Test
+    fun `getPages reuses the parent page models`() = test {
+        whenever(postStore.getPagesForSite(site)).thenReturn(pageHierarchy)
+
+        val pages = store.getPagesFromDb(site).associateBy { it.remoteId }
+
+        assertThat(pages.getValue(2).parent).isSameAs(pages.getValue(1))
+        assertThat(pages.getValue(4).parent).isSameAs(pages.getValue(1))
+        assertThat(pages.getValue(3).parent).isSameAs(pages.getValue(2))
+    }
+
+    @Test
+    fun `getPages stops at parent cycles`() = test {
+        val cyclicPages = listOf(
+                initPage(1, 2, "page 1", "publish"),
+                initPage(2, 1, "page 2", "publish")
+        )
+        whenever(postStore.getPagesForSite(site)).thenReturn(cyclicPages)
+
+        val pages = store.getPagesFromDb(site)
+
+        assertThat(pages).hasSize(2)
+        assertThat(pages[0].parent!!.remoteId).isEqualTo(2)
+        assertThat(pages[0].parent!!.parent).isNull()
+    }
+
     private fun initPage(
         id: Int,
         parentId: Long? = null,
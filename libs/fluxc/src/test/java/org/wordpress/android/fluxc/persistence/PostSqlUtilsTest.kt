@@ -188,6 +188,23 @@ class PostSqlUtilsTest {
         }
     }
 
+    @Test
+    fun `getLocalSiteIdsWithLocalChanges returns only the sites with local drafts or local changes`() {
+        postSqlUtils.insertPostForResult(createPost(localSiteId = 1, localId = 10, remoteId = 110).apply {
+            setIsLocalDraft(true)
+        })
+        postSqlUtils.insertPostForResult(createPost(localSiteId = 2, localId = 20, remoteId = 120).apply {
+            setIsLocallyChanged(true)
+            setIsPage(true)
+        })
+        postSqlUtils.insertPostForResult(createPost(localSiteId = 2, localId = 21, remoteId = 121).apply {
+            setIsLocallyChanged(true)
+        })
+        postSqlUtils.insertPostForResult(createPost(localSiteId = 3, localId = 30, remoteId = 130))
+
+        assertThat(postSqlUtils.localSiteIdsWithLocalChanges).containsExactlyInAnyOrder(1, 2)
+    }
+
     private fun createPost(localSiteId: Int, localId: Int, remoteId: Long) = PostModel().apply {
         setId(localId)
         setRemotePostId(remoteId)
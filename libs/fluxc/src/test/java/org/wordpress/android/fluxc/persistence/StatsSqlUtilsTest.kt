@@ -0,0 +1,84 @@
+package org.wordpress.android.fluxc.persistence
+
+import android.app.Application
+import androidx.test.core.app.ApplicationProvider
+import com.yarolegovich.wellsql.WellSql
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import org.wordpress.android.fluxc.model.SiteModel
+import org.wordpress.android.fluxc.persistence.StatsSqlUtils.BlockType.REFERRERS
+import org.wordpress.android.fluxc.persistence.StatsSqlUtils.StatsType.DAY
+import org.wordpress.android.fluxc.persistence.StatsSqlUtils.StatsType.WEEK
+
+private const val DATE = "2024-01-01"
+
+@Config(manifest = Config.NONE)
+@RunWith(RobolectricTestRunner::class)
+class StatsSqlUtilsTest {
+    private val statsSqlUtils = StatsSqlUtils()
+    private lateinit var site: SiteModel
+
+    @Before
+    fun setUp() {
+        val appContext = ApplicationProvider.getApplicationContext<Application>()
+
+        val config = WellSqlConfig(appContext)
+        WellSql.init(config)
+        config.reset()
+
+        site = SiteModel().apply { id = 100 }
+    }
+
+    @Test
+    fun `given a stored block, when it is selected twice, then it is parsed once`() {
+        statsSqlUtils.insert(site, REFERRERS, DAY, Block(views = 1), replaceExistingData = true, date = DATE)
+
+        val first = statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE)
+        val second = statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE)
+
+        assertEquals(Block(views = 1), first)
+        assertSame(first, second)
+    }
+
+    @Test
+    fun `given a cached block, when it is replaced, then the new block is selected`() {
+        statsSqlUtils.insert(site, REFERRERS, DAY, Block(views = 1), replaceExistingData = true, date = DATE)
+        statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE)
+
+        statsSqlUtils.insert(site, REFERRERS, DAY, Block(views = 2), replaceExistingData = true, date = DATE)
+
+        assertEquals(Block(views = 2), statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE))
+        assertEquals(
+                listOf(Block(views = 2)),
+                statsSqlUtils.selectAll(site, REFERRERS, DAY, Block::class.java, DATE)
+        )
+    }
+
+    @Test
+    fun `given cached blocks, when another granularity is replaced, then the cached block is kept`() {
+        statsSqlUtils.insert(site, REFERRERS, DAY, Block(views = 1), replaceExistingData = true, date = DATE)
+        val cached = statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE)
+
+        statsSqlUtils.insert(site, REFERRERS, WEEK, Block(views = 2), replaceExistingData = true, date = DATE)
+
+        assertSame(cached, statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE))
+    }
+
+    @Test
+    fun `given a cached block, when the site stats are deleted, then nothing is selected`() {
+        statsSqlUtils.insert(site, REFERRERS, DAY, Block(views = 1), replaceExistingData = true, date = DATE)
+        statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE)
+
+        statsSqlUtils.deleteSiteStats(site)
+
+        assertNull(statsSqlUtils.select(site, REFERRERS, DAY, Block::class.java, DATE))
+    }
+
+    private data class Block(val views: Int)
+}
@@ -11,6 +11,7 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.anyOrNull
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.wordpress.android.fluxc.Dispatcher
@@ -86,14 +87,14 @@ class ActivityLogStoreTest {
                 )
         )
 
-        val existingActivities = listOf<ActivityLogModel>(mock())
-        whenever(activityLogSqlUtils.getActivitiesForSite(siteModel, SelectQuery.ORDER_ASCENDING))
-                .thenReturn(existingActivities)
+        val existingActivitiesCount = 1
+        whenever(activityLogSqlUtils.getActivitiesCountForSite(siteModel)).thenReturn(existingActivitiesCount)
 
         val action = ActivityLogActionBuilder.newFetchActivitiesAction(payload)
         activityLogStore.onAction(action)
 
-        verify(activityLogRestClient).fetchActivity(payload, PAGE_SIZE, existingActivities.size)
+        verify(activityLogRestClient).fetchActivity(payload, PAGE_SIZE, existingActivitiesCount)
+        verify(activityLogSqlUtils, never()).getActivitiesForSite(any(), any())
     }
 
     @Test
@@ -2,6 +2,7 @@ package org.wordpress.android.fluxc.store.dashboard
 
 import kotlinx.coroutines.flow.flowOf
 import kotlinx.coroutines.flow.single
+import kotlinx.coroutines.flow.toList
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.Before
 import org.junit.Test
@@ -675,6 +676,32 @@ class CardsStoreTest {
         assertThat(result).isEqualTo(CardsResult(CARDS_MODEL))
     }
 
+    @Test
+    fun `given an unchanged card row, when the cards are emitted again, then the parsed card is reused`() = test {
+        val updatedPosts = POSTS_ENTITY.copy(json = CardsUtils.GSON.toJson(POSTS_MODEL.copy(hasPublished = true)))
+        whenever(dao.get(SITE_LOCAL_ID)).thenReturn(
+            flowOf(listOf(TODAYS_STATS_ENTITY, POSTS_ENTITY), listOf(TODAYS_STATS_ENTITY, updatedPosts))
+        )
+
+        val results = cardsStore.getCards(siteModel).toList().map { it.model!! }
+
+        assertThat(results[1][0]).isSameAs(results[0][0])
+        assertThat(results[1][1]).isNotSameAs(results[0][1])
+        assertThat((results[1][1] as PostsCardModel).hasPublished).isTrue
+    }
+
+    @Test
+    fun `given the same cards flow, when collected twice, then each collection parses its own cards`() = test {
+        whenever(dao.get(SITE_LOCAL_ID)).thenReturn(flowOf(listOf(TODAYS_STATS_ENTITY)))
+        val cards = cardsStore.getCards(siteModel)
+
+        val first = cards.single().model!!
+        val second = cards.single().model!!
+
+        assertThat(second).isEqualTo(first)
+        assertThat(second[0]).isNotSameAs(first[0])
+    }
+
     /* TODAYS STATS CARD WITH ERROR */
 
     @Test
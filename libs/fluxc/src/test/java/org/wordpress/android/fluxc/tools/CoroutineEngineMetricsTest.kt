@@ -0,0 +1,128 @@
+package org.wordpress.android.fluxc.tools
+
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.After
+import org.junit.Test
+import org.mockito.kotlin.mock
+import org.wordpress.android.fluxc.utils.AppLogWrapper
+import org.wordpress.android.util.AppLog
+import java.util.concurrent.TimeUnit
+
+class CoroutineEngineMetricsTest {
+    private val callStats = CoroutineEngineCallStats()
+    private val coroutineEngine = CoroutineEngine(Dispatchers.Unconfined, mock<AppLogWrapper>())
+
+    @After
+    fun tearDown() {
+        CoroutineEngine.metrics = null
+    }
+
+    @Test
+    fun `calls are not recorded once the metrics are removed`() = runBlocking {
+        CoroutineEngine.metrics = callStats
+        coroutineEngine.withDefaultContext(AppLog.T.API, this, "fetch") { 1 }
+        val recordedCalls = callStats.dump()
+
+        CoroutineEngine.metrics = null
+        coroutineEngine.withDefaultContext(AppLog.T.API, this, "fetch") { 2 }
+        coroutineEngine.run(AppLog.T.API, this, "read") { 3 }
+        coroutineEngine.launch(AppLog.T.API, this, "sync") { 4 }.join()
+        coroutineEngine.flowWithDefaultContext<Int>(AppLog.T.API, this, "observe") { emit(5) }.collect()
+
+        assertThat(recordedCalls).contains(": fetch\n  calls=1 errors=0")
+        assertThat(callStats.dump()).isEqualTo(recordedCalls)
+    }
+
+    @Test
+    fun `calls are recorded per call site`() = runBlocking {
+        CoroutineEngine.metrics = callStats
+
+        coroutineEngine.withDefaultContext(AppLog.T.API, this, "fetch") { 1 }
+        coroutineEngine.withDefaultContext(AppLog.T.API, this, "fetch") { 2 }
+        coroutineEngine.run(AppLog.T.API, this, "read") { 3 }
+
+        val dump = callStats.dump()
+        assertThat(dump).contains(": fetch\n  calls=2 errors=0")
+        assertThat(dump).contains(": read\n  calls=1 errors=0")
+    }
+
+    @Test
+    fun `failed calls are counted as errors`() {
+        CoroutineEngine.metrics = callStats
+
+        runCatching {
+            coroutineEngine.run(AppLog.T.API, this, "read") { throw IllegalStateException() }
+        }
+
+        assertThat(callStats.dump()).contains(": read\n  calls=1 errors=1")
+    }
+
+    @Test
+    fun `cancelled calls are not counted as errors`() = runBlocking {
+        CoroutineEngine.metrics = callStats
+
+        val job = coroutineEngine.launch(AppLog.T.API, this, "sync") { awaitCancellation() }
+        job.cancel()
+        job.join()
+
+        assertThat(callStats.dump()).contains(": sync\n  calls=1 errors=0")
+    }
+
+    @Test
+    fun `concurrent collections of a flow are timed separately`() = runBlocking {
+        val durations = mutableListOf<Long>()
+        CoroutineEngine.metrics = object : CoroutineEngineMetrics {
+            override fun onCallCompleted(
+                callerClass: Class<*>,
+                loggedMessage: String,
+                queueWaitNanos: Long,
+                durationNanos: Long,
+                failed: Boolean
+            ) {
+                synchronized(durations) { durations.add(durationNanos) }
+            }
+        }
+        val flow = coroutineEngine.flowWithDefaultContext<Int>(AppLog.T.API, this, "observe") {
+            delay(FLOW_DURATION_MS)
+            emit(1)
+        }
+
+        val first = launch { flow.collect() }
+        delay(FLOW_DURATION_MS / 2)
+        val second = launch { flow.collect() }
+        first.join()
+        second.join()
+
+        assertThat(durations).hasSize(2)
+        assertThat(durations).allMatch { it >= TimeUnit.MILLISECONDS.toNanos(FLOW_DURATION_MS) }
+    }
+
+    @Test
+    fun `durations are bucketed by powers of two of milliseconds`() {
+        callStats.onCallCompleted(javaClass, "fetch", 0L, TimeUnit.MICROSECONDS.toNanos(500), false)
+        callStats.onCallCompleted(javaClass, "fetch", 0L, TimeUnit.MILLISECONDS.toNanos(3), false)
+        callStats.onCallCompleted(javaClass, "fetch", 0L, TimeUnit.MILLISECONDS.toNanos(3), false)
+        callStats.onCallCompleted(javaClass, "fetch", 0L, TimeUnit.MINUTES.toNanos(1), false)
+
+        assertThat(callStats.dump()).contains("histogram: <1ms=1 <4ms=2 >=32768ms=1")
+    }
+
+    @Test
+    fun `reset clears the recorded calls`() {
+        callStats.onCallCompleted(javaClass, "fetch", 0L, 0L, false)
+
+        callStats.reset()
+
+        assertThat(callStats.dump()).isEmpty()
+    }
+
+    companion object {
+        private const val FLOW_DURATION_MS = 200L
+    }
+}